@@ -0,0 +1,391 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A certificates manager which generates the keys, certificate signing requests, certificates and keystores in-process
+ * using the JCA and BouncyCastle instead of running the openssl command. Apart from the files passed in by the caller,
+ * it doesn't write any files.
+ *
+ * The generated keys, certificates and keystores are equivalent to the ones generated by {@link OpenSslCertManager}.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class BouncyCastleCertManager implements CertManager {
+    private static final Logger log = LogManager.getLogger(BouncyCastleCertManager.class);
+
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final int KEY_SIZE = 2048;
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+    private static final String DEFAULT_ORGANIZATION_NAME = "io.strimzi";
+
+    private final SecureRandom random = new SecureRandom();
+
+    public BouncyCastleCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = selfSignedCert(keyPair, sbj, days);
+
+        writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        writeCert(certFile, cert);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        PrivateKey privateKey = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+        PublicKey publicKey = publicKey(privateKey);
+
+        writeCert(certFile, selfSignedCert(new KeyPair(publicKey, privateKey), sbj, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+
+        // the KeyStore class is able to create an empty store if the input stream is null
+        if (trustStoreFile.length() > 0) {
+            try (InputStream is = new FileInputStream(trustStoreFile)) {
+                trustStore.load(is, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(readCert(Files.readAllBytes(certFile.toPath()))), null);
+
+        try (OutputStream os = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(os, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey privateKey = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            X509Certificate cert = readCert(Files.readAllBytes(certFile.toPath()));
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, privateKey, keyStorePassword.toCharArray(), new Certificate[] {cert});
+
+            try (OutputStream os = new FileOutputStream(keyStoreFile)) {
+                keyStore.store(os, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream is = new FileInputStream(trustStoreFile)) {
+            trustStore.load(is, trustStorePassword.toCharArray());
+        }
+
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+
+        try (OutputStream os = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(os, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(sbj), keyPair.getPublic());
+        GeneralNames subjectAltNames = subjectAltNames(sbj);
+        if (subjectAltNames != null) {
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+        }
+        PKCS10CertificationRequest csr = builder.build(signer(keyPair.getPrivate()));
+
+        writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        writePem(csrFile, "CERTIFICATE REQUEST", csr.getEncoded());
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        PKCS10CertificationRequest csr;
+        try (PEMParser parser = new PEMParser(reader(Files.readAllBytes(csrFile.toPath())))) {
+            csr = (PKCS10CertificationRequest) parser.readObject();
+        }
+
+        try {
+            PrivateKey caPrivateKey = readPrivateKey(caKey);
+            X509Certificate caCertificate = readCert(caCert);
+            PublicKey publicKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caCertificate, serialNumber(),
+                    notBefore(), notAfter(days), csr.getSubject(), publicKey);
+
+            // Like with openssl, the extensions are not copied from the CSR, only the subject alt names of the subject
+            // passed in are used
+            GeneralNames subjectAltNames = subjectAltNames(sbj);
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            }
+
+            writeCert(crtFile, certificate(builder.build(signer(caPrivateKey))));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the certificate", e);
+        }
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to generate the key", e);
+        }
+    }
+
+    private X509Certificate selfSignedCert(KeyPair keyPair, Subject sbj, int days) throws IOException {
+        try {
+            X500Name name = x500Name(sbj);
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name, serialNumber(),
+                    notBefore(), notAfter(days), name, keyPair.getPublic())
+                    .addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()))
+                    .addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(keyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+
+            GeneralNames subjectAltNames = subjectAltNames(sbj);
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            }
+
+            return certificate(builder.build(signer(keyPair.getPrivate())));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the self-signed certificate", e);
+        }
+    }
+
+    private X509Certificate certificate(X509CertificateHolder holder) throws CertificateException {
+        return new JcaX509CertificateConverter().getCertificate(holder);
+    }
+
+    private ContentSigner signer(PrivateKey privateKey) throws IOException {
+        try {
+            return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).setSecureRandom(random).build(privateKey);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create the signer", e);
+        }
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(63, random);
+    }
+
+    private static Date notBefore() {
+        return Date.from(Instant.now());
+    }
+
+    private static Date notAfter(int days) {
+        return Date.from(Instant.now().plus(Duration.ofDays(days)));
+    }
+
+    /**
+     * Builds the X.500 name in the same order as the openssl -subj option built from {@link Subject#toString()}.
+     * Certificates cannot have an empty issuer, so when there is no subject, a default organization is used instead
+     * (openssl uses the defaults from its configuration file in this case).
+     */
+    private static X500Name x500Name(Subject sbj) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+        if (sbj != null && sbj.organizationName() != null) {
+            builder.addRDN(BCStyle.O, sbj.organizationName());
+        }
+        if (sbj != null && sbj.commonName() != null) {
+            builder.addRDN(BCStyle.CN, sbj.commonName());
+        }
+        if (sbj == null || sbj.organizationName() == null && sbj.commonName() == null) {
+            builder.addRDN(BCStyle.O, DEFAULT_ORGANIZATION_NAME);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts the subject alt names in the openssl configuration format (e.g. {@code DNS.1 = my-host}) to
+     * the general names of the subject alternative name extension.
+     *
+     * @return The general names, or null if the subject has no subject alt names.
+     */
+    private static GeneralNames subjectAltNames(Subject sbj) {
+        if (sbj == null || sbj.subjectAltNames() == null || sbj.subjectAltNames().isEmpty()) {
+            return null;
+        }
+
+        List<GeneralName> names = new ArrayList<>(sbj.subjectAltNames().size());
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey().split("\\.", 2)[0].toUpperCase(Locale.ENGLISH);
+            switch (type) {
+                case "DNS":
+                    names.add(new GeneralName(GeneralName.dNSName, entry.getValue()));
+                    break;
+                case "IP":
+                    names.add(new GeneralName(GeneralName.iPAddress, entry.getValue()));
+                    break;
+                case "EMAIL":
+                    names.add(new GeneralName(GeneralName.rfc822Name, entry.getValue()));
+                    break;
+                case "URI":
+                    names.add(new GeneralName(GeneralName.uniformResourceIdentifier, entry.getValue()));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported subject alt name " + entry.getKey());
+            }
+        }
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    /**
+     * Reads a PEM encoded private key, either in the PKCS#8 or in the PKCS#1 (RSA) format.
+     */
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        try (PEMParser parser = new PEMParser(reader(pem))) {
+            Object object = parser.readObject();
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+            if (object instanceof PrivateKeyInfo) {
+                return converter.getPrivateKey((PrivateKeyInfo) object);
+            } else if (object instanceof PEMKeyPair) {
+                return converter.getKeyPair((PEMKeyPair) object).getPrivate();
+            } else {
+                throw new IOException("Unsupported private key format " + (object != null ? object.getClass().getName() : null));
+            }
+        }
+    }
+
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        try {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+            return KeyFactory.getInstance(KEY_ALGORITHM).generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } catch (ClassCastException | GeneralSecurityException e) {
+            throw new IOException("Failed to get the public key from the private key", e);
+        }
+    }
+
+    private static X509Certificate readCert(byte[] pem) throws CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+    }
+
+    private static void writeCert(File file, X509Certificate cert) throws IOException {
+        try {
+            writePem(file, "CERTIFICATE", cert.getEncoded());
+        } catch (CertificateException e) {
+            throw new IOException("Failed to encode the certificate", e);
+        }
+    }
+
+    private static void writePem(File file, String type, byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PemWriter writer = new PemWriter(new OutputStreamWriter(bytes, StandardCharsets.US_ASCII))) {
+            writer.writeObject(new PemObject(type, content));
+        }
+        Files.write(file.toPath(), bytes.toByteArray());
+        log.debug("Written {} to {}", type, file);
+    }
+
+    private static Reader reader(byte[] pem) {
+        return new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII);
+    }
+}
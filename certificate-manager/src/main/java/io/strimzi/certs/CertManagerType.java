@@ -0,0 +1,49 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The available implementations of the {@link CertManager}
+ */
+public enum CertManagerType {
+    /**
+     * Runs the openssl command
+     */
+    OPENSSL {
+        @Override
+        public CertManager create() {
+            return new OpenSslCertManager();
+        }
+    },
+
+    /**
+     * Generates the keys and certificates in-process using BouncyCastle
+     */
+    JAVA {
+        @Override
+        public CertManager create() {
+            return new BouncyCastleCertManager();
+        }
+    };
+
+    /**
+     * @return A new instance of the certificates manager
+     */
+    public abstract CertManager create();
+
+    /**
+     * Gets the certificates manager type from its name
+     *
+     * @param name The name of the type (case insensitive)
+     *
+     * @return The certificates manager type
+     * @throws IllegalArgumentException if there is no type with the given name
+     */
+    public static CertManagerType forName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+}
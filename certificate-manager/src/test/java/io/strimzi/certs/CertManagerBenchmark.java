@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time needed by the {@link CertManager} implementations to issue a user certificate, the way it is done
+ * by the User Operator: generate a key and CSR, sign it by the clients CA and store the key and certificate in a keystore.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.certs.CertManagerBenchmark -Dexec.classpathScope=test}
+ * from the certificate-manager directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertManagerBenchmark {
+
+    @Param({"OPENSSL", "JAVA"})
+    public String type;
+
+    private CertManager certManager;
+    private byte[] caKey;
+    private byte[] caCert;
+    private Subject subject;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        certManager = CertManagerType.forName(type).create();
+
+        File caKeyFile = File.createTempFile("ca-key-", ".key");
+        File caCertFile = File.createTempFile("ca-crt-", ".crt");
+        Subject caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("clients-ca");
+        certManager.generateSelfSignedCert(caKeyFile, caCertFile, caSubject, 365);
+        caKey = Files.readAllBytes(caKeyFile.toPath());
+        caCert = Files.readAllBytes(caCertFile.toPath());
+        delete(caKeyFile, caCertFile);
+
+        subject = new Subject();
+        subject.setCommonName("my-user");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        certManager = null;
+    }
+
+    @Benchmark
+    public byte[] issueUserCertificate() throws IOException {
+        File key = File.createTempFile("key-", ".key");
+        File csr = File.createTempFile("csr-", ".csr");
+        File cert = File.createTempFile("crt-", ".crt");
+        File keyStore = File.createTempFile("store-", ".p12");
+
+        try {
+            certManager.generateCsr(key, csr, subject);
+            certManager.generateCert(csr, caKey, caCert, cert, 365);
+            certManager.addKeyAndCertToKeyStore(key, cert, "my-user", keyStore, "password");
+            return Files.readAllBytes(keyStore.toPath());
+        } finally {
+            delete(key, csr, cert, keyStore);
+        }
+    }
+
+    private static void delete(File... files) {
+        for (File file : files) {
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CertManagerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
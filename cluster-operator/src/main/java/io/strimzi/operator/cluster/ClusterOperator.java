@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.client.Watch;
 import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaConnectApi;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
@@ -66,6 +67,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator;
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
+    private final KafkaConnectApi connectClient;
 
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -77,6 +79,7 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
+                           KafkaConnectApi connectClient,
                            MetricsProvider metricsProvider) {
         log.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
@@ -89,6 +92,7 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaMirrorMaker2AssemblyOperator = kafkaMirrorMaker2AssemblyOperator;
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
+        this.connectClient = connectClient;
 
         this.metricsProvider = metricsProvider;
     }
@@ -141,6 +145,12 @@ public class ClusterOperator extends AbstractVerticle {
             }
             // TODO remove the watch from the watchByKind
         }
+        if (kafkaRebalanceAssemblyOperator != null) {
+            kafkaRebalanceAssemblyOperator.close();
+        }
+        if (connectClient != null) {
+            connectClient.close();
+        }
         client.close();
         stop.complete();
     }
@@ -6,9 +6,11 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
@@ -48,6 +50,12 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
     public static final RbacScope DEFAULT_STRIMZI_RBAC_SCOPE = RbacScope.CLUSTER;
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
+    public static final String STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS = "STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS";
+    public static final String STRIMZI_MAX_PARALLEL_BROKER_RESTARTS = "STRIMZI_MAX_PARALLEL_BROKER_RESTARTS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_WATCH_RECONCILIATION_MIN_INTERVAL_MS = "STRIMZI_WATCH_RECONCILIATION_MIN_INTERVAL_MS";
+    public static final String STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS = "STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS";
+    public static final String STRIMZI_CRUISE_CONTROL_REQUEST_TIMEOUT_MS = "STRIMZI_CRUISE_CONTROL_REQUEST_TIMEOUT_MS";
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
 
     // Env vars for configuring images
@@ -70,6 +78,12 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
+    public static final long DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS = 0;
+    public static final int DEFAULT_MAX_PARALLEL_BROKER_RESTARTS = 1;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
+    public static final long DEFAULT_WATCH_RECONCILIATION_MIN_INTERVAL_MS = 0;
+    public static final int DEFAULT_CRUISE_CONTROL_MAX_CONNECTIONS = CruiseControlApiImpl.DEFAULT_MAX_CONNECTIONS;
+    public static final long DEFAULT_CRUISE_CONTROL_REQUEST_TIMEOUT_MS = 60_000;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -83,6 +97,12 @@ public class ClusterOperatorConfig {
     private final Labels operatorNamespaceLabels;
     private final RbacScope rbacScope;
     private final Labels customResourceSelector;
+    private final long resourceCacheResyncIntervalMs;
+    private final int maxParallelBrokerRestarts;
+    private final CertManagerType certManagerType;
+    private final long watchReconciliationMinIntervalMs;
+    private final int cruiseControlMaxConnections;
+    private final long cruiseControlRequestTimeoutMs;
 
     /**
      * Constructor
@@ -113,6 +133,56 @@ public class ClusterOperatorConfig {
             Labels operatorNamespaceLabels,
             RbacScope rbacScope,
             Labels customResourceSelector
+    ) {
+        this(namespaces, reconciliationIntervalMs, operationTimeoutMs, connectBuildTimeoutMs, createClusterRoles, versions,
+                imagePullPolicy, imagePullSecrets, operatorNamespace, operatorNamespaceLabels, rbacScope, customResourceSelector,
+                DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS, DEFAULT_MAX_PARALLEL_BROKER_RESTARTS, DEFAULT_CERT_MANAGER,
+                DEFAULT_WATCH_RECONCILIATION_MIN_INTERVAL_MS, DEFAULT_CRUISE_CONTROL_MAX_CONNECTIONS,
+                DEFAULT_CRUISE_CONTROL_REQUEST_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param namespaces namespace in which the operator will run and create resources
+     * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+     * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
+     * @param connectBuildTimeoutMs timeout used to wait for a Kafka Connect builds to finish
+     * @param createClusterRoles true to create the ClusterRoles
+     * @param versions The configured Kafka versions
+     * @param imagePullPolicy Image pull policy configured by the user
+     * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+     * @param operatorNamespace Name of the namespace in which the operator is running
+     * @param operatorNamespaceLabels Labels of the namespace in which the operator is running (used for network policies)
+     * @param rbacScope true to use Roles where possible instead of ClusterRoles
+     * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
+     * @param resourceCacheResyncIntervalMs resync interval of the informer-backed resource cache, or 0 if the cache is disabled
+     * @param maxParallelBrokerRestarts maximum number of Kafka brokers which can be restarted at the same time during a rolling update
+     * @param certManagerType the implementation used to generate the keys and certificates
+     * @param watchReconciliationMinIntervalMs minimum interval between two watch-triggered reconciliations of the same resource, or 0 to not limit the rate
+     * @param cruiseControlMaxConnections maximum number of connections kept open to a single Cruise Control instance
+     * @param cruiseControlRequestTimeoutMs timeout for the requests to the Cruise Control REST API, or 0 to not time out
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public ClusterOperatorConfig(
+            Set<String> namespaces,
+            long reconciliationIntervalMs,
+            long operationTimeoutMs,
+            long connectBuildTimeoutMs,
+            boolean createClusterRoles,
+            KafkaVersion.Lookup versions,
+            ImagePullPolicy imagePullPolicy,
+            List<LocalObjectReference> imagePullSecrets,
+            String operatorNamespace,
+            Labels operatorNamespaceLabels,
+            RbacScope rbacScope,
+            Labels customResourceSelector,
+            long resourceCacheResyncIntervalMs,
+            int maxParallelBrokerRestarts,
+            CertManagerType certManagerType,
+            long watchReconciliationMinIntervalMs,
+            int cruiseControlMaxConnections,
+            long cruiseControlRequestTimeoutMs
     ) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -126,6 +196,12 @@ public class ClusterOperatorConfig {
         this.operatorNamespaceLabels = operatorNamespaceLabels;
         this.rbacScope = rbacScope;
         this.customResourceSelector = customResourceSelector;
+        this.resourceCacheResyncIntervalMs = resourceCacheResyncIntervalMs;
+        this.maxParallelBrokerRestarts = maxParallelBrokerRestarts;
+        this.certManagerType = certManagerType;
+        this.watchReconciliationMinIntervalMs = watchReconciliationMinIntervalMs;
+        this.cruiseControlMaxConnections = cruiseControlMaxConnections;
+        this.cruiseControlRequestTimeoutMs = cruiseControlRequestTimeoutMs;
     }
 
     /**
@@ -172,6 +248,12 @@ public class ClusterOperatorConfig {
         Labels operatorNamespaceLabels = parseLabels(map, STRIMZI_OPERATOR_NAMESPACE_LABELS);
         RbacScope rbacScope = parseRbacScope(map.get(STRIMZI_RBAC_SCOPE));
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
+        long resourceCacheResyncInterval = parseTimeout(map.get(STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS), DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS);
+        int maxParallelBrokerRestarts = parseMaxParallelBrokerRestarts(map.get(STRIMZI_MAX_PARALLEL_BROKER_RESTARTS));
+        CertManagerType certManagerType = parseCertManagerType(map.get(STRIMZI_CERT_MANAGER));
+        long watchReconciliationMinInterval = parseTimeout(map.get(STRIMZI_WATCH_RECONCILIATION_MIN_INTERVAL_MS), DEFAULT_WATCH_RECONCILIATION_MIN_INTERVAL_MS);
+        int cruiseControlMaxConnections = parseCruiseControlMaxConnections(map.get(STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS));
+        long cruiseControlRequestTimeout = parseTimeout(map.get(STRIMZI_CRUISE_CONTROL_REQUEST_TIMEOUT_MS), DEFAULT_CRUISE_CONTROL_REQUEST_TIMEOUT_MS);
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -185,7 +267,13 @@ public class ClusterOperatorConfig {
                 operatorNamespace,
                 operatorNamespaceLabels,
                 rbacScope,
-                customResourceSelector);
+                customResourceSelector,
+                resourceCacheResyncInterval,
+                maxParallelBrokerRestarts,
+                certManagerType,
+                watchReconciliationMinInterval,
+                cruiseControlMaxConnections,
+                cruiseControlRequestTimeout);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -227,6 +315,50 @@ public class ClusterOperatorConfig {
         return timeout;
     }
 
+    private static int parseMaxParallelBrokerRestarts(String maxParallelBrokerRestartsEnvVar) {
+        int maxParallelBrokerRestarts = DEFAULT_MAX_PARALLEL_BROKER_RESTARTS;
+
+        if (maxParallelBrokerRestartsEnvVar != null) {
+            maxParallelBrokerRestarts = Integer.parseInt(maxParallelBrokerRestartsEnvVar);
+
+            if (maxParallelBrokerRestarts < 1) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_PARALLEL_BROKER_RESTARTS + " has to be at least 1");
+            }
+        }
+
+        return maxParallelBrokerRestarts;
+    }
+
+    private static int parseCruiseControlMaxConnections(String cruiseControlMaxConnectionsEnvVar) {
+        int cruiseControlMaxConnections = DEFAULT_CRUISE_CONTROL_MAX_CONNECTIONS;
+
+        if (cruiseControlMaxConnectionsEnvVar != null) {
+            cruiseControlMaxConnections = Integer.parseInt(cruiseControlMaxConnectionsEnvVar);
+
+            if (cruiseControlMaxConnections < 1) {
+                throw new InvalidConfigurationException(STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS + " has to be at least 1");
+            }
+        }
+
+        return cruiseControlMaxConnections;
+    }
+
+    private static CertManagerType parseCertManagerType(String certManagerEnvVar) {
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            try {
+                certManagerType = CertManagerType.forName(certManagerEnvVar);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException(certManagerEnvVar
+                        + " is not a valid " + STRIMZI_CERT_MANAGER + " value. " +
+                        STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, java.");
+            }
+        }
+
+        return certManagerType;
+    }
+
     private static boolean parseCreateClusterRoles(String createClusterRolesEnvVar) {
         boolean createClusterRoles = DEFAULT_CREATE_CLUSTER_ROLES;
 
@@ -447,6 +579,49 @@ public class ClusterOperatorConfig {
         return customResourceSelector;
     }
 
+    /**
+     * @return  The resync interval of the informer-backed resource cache in milliseconds, or 0 if the cache is disabled
+     */
+    public long getResourceCacheResyncIntervalMs() {
+        return resourceCacheResyncIntervalMs;
+    }
+
+    /**
+     * @return  The maximum number of Kafka brokers which can be restarted at the same time during a rolling update
+     */
+    public int getMaxParallelBrokerRestarts() {
+        return maxParallelBrokerRestarts;
+    }
+
+    /**
+     * @return  The implementation used to generate the keys and certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
+    /**
+     * @return  The minimum interval in milliseconds between two watch-triggered reconciliations of the same resource,
+     *          or 0 if the rate is not limited
+     */
+    public long getWatchReconciliationMinIntervalMs() {
+        return watchReconciliationMinIntervalMs;
+    }
+
+    /**
+     * @return  The maximum number of connections kept open to a single Cruise Control instance
+     */
+    public int getCruiseControlMaxConnections() {
+        return cruiseControlMaxConnections;
+    }
+
+    /**
+     * @return  The timeout in milliseconds for the requests to the Cruise Control REST API, or 0 if they do not time out
+     */
+    public long getCruiseControlRequestTimeoutMs() {
+        return cruiseControlRequestTimeoutMs;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -462,6 +637,12 @@ public class ClusterOperatorConfig {
                 ",operatorNamespaceLabels=" + operatorNamespaceLabels +
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
+                ",resourceCacheResyncIntervalMs=" + resourceCacheResyncIntervalMs +
+                ",maxParallelBrokerRestarts=" + maxParallelBrokerRestarts +
+                ",certManagerType=" + certManagerType +
+                ",watchReconciliationMinIntervalMs=" + watchReconciliationMinIntervalMs +
+                ",cruiseControlMaxConnections=" + cruiseControlMaxConnections +
+                ",cruiseControlRequestTimeoutMs=" + cruiseControlRequestTimeoutMs +
                 ")";
     }
 }
@@ -9,10 +9,12 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaConnectApi;
+import io.strimzi.operator.cluster.operator.assembly.KafkaConnectApiImpl;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
@@ -38,6 +40,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
@@ -101,8 +104,11 @@ public class Main {
         Util.printEnvInfo();
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
+        if (config.getResourceCacheResyncIntervalMs() > 0) {
+            resourceOperatorSupplier.enableResourceCaches(config.getNamespaces(), config.getResourceCacheResyncIntervalMs());
+        }
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManagerType().create();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -111,18 +117,23 @@ public class Main {
                         "0123456789");
         KafkaAssemblyOperator kafkaClusterOperations = new KafkaAssemblyOperator(vertx, pfa,
                 certManager, passwordGenerator, resourceOperatorSupplier, config);
+
+        // A single Kafka Connect client is shared by all the operators using the Kafka Connect REST API
+        KafkaConnectApi connectClient = new KafkaConnectApiImpl(vertx, resourceOperatorSupplier.metricsProvider);
+        Function<Vertx, KafkaConnectApi> connectClientProvider = ignored -> connectClient;
+
         KafkaConnectAssemblyOperator kafkaConnectClusterOperations = new KafkaConnectAssemblyOperator(vertx, pfa,
-                resourceOperatorSupplier, config);
+                resourceOperatorSupplier, config, connectClientProvider);
 
         KafkaConnectS2IAssemblyOperator kafkaConnectS2IClusterOperations = null;
         if (pfa.supportsS2I()) {
-            kafkaConnectS2IClusterOperations = new KafkaConnectS2IAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
+            kafkaConnectS2IClusterOperations = new KafkaConnectS2IAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config, connectClientProvider);
         } else {
             log.info("The KafkaConnectS2I custom resource definition can only be used in environment which supports OpenShift build, image and apps APIs. These APIs do not seem to be supported in this environment.");
         }
 
         KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator =
-                new KafkaMirrorMaker2AssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
+                new KafkaMirrorMaker2AssemblyOperator(vertx, pfa, resourceOperatorSupplier, config, connectClientProvider);
 
         KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator =
                 new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
@@ -147,6 +158,7 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
+                    connectClient,
                     resourceOperatorSupplier.metricsProvider);
             vertx.deployVerticle(operator,
                 res -> {
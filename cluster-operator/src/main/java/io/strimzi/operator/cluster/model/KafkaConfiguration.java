@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -34,6 +35,9 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -97,18 +101,23 @@ public class KafkaConfiguration extends AbstractConfiguration {
 
     /**
      * Gets the config model for the given version of the Kafka broker.
+     * The config model of each version is read from the classpath only once and then cached.
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return The (unmodifiable) config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), KafkaConfiguration::loadConfigModel);
+    }
+
+    private static Map<String, ConfigModel> loadConfigModel(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
+                ConfigModels configModels = OBJECT_MAPPER.readValue(in, ConfigModels.class);
+                if (!version.equals(configModels.getVersion())) {
                     throw new RuntimeException("Incorrect version");
                 }
-                return configModels.getConfigs();
+                return Collections.unmodifiableMap(configModels.getConfigs());
             }
         } catch (IOException e) {
             throw new RuntimeException("Error reading from classpath resource " + name, e);
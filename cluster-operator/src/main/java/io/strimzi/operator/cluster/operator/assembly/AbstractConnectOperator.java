@@ -129,7 +129,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector(), config.getWatchReconciliationMinIntervalMs());
         this.connectorOperator = supplier.kafkaConnectorOperator;
         this.connectClientProvider = connectClientProvider;
         this.configMapOperations = supplier.configMapOperations;
@@ -374,12 +374,14 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithInfoAndStatus(host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(host, port),
                 apiClient.updateConnectLoggers(host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            // The config and status of all running connectors are fetched in a single request and used to decide
+            // which connectors need to be changed, instead of getting them connector by connector
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -390,16 +392,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             log.debug("{}: {} cluster: delete connectors: {}", reconciliation, kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, runningConnectors)
             );
 
             log.debug("{}: {} cluster: required connectors: {}", reconciliation, kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -427,12 +429,32 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    /**
+     * Reconciles a single connector and records the result in the metrics.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param useResources Whether the Connect cluster uses the KafkaConnector resources.
+     * @param connectorName The connector name.
+     * @param connector The KafkaConnector resource, or null if the connector should be deleted.
+     * @param runningConnectors The info and status of all the connectors running in the Connect cluster as returned by
+     *                          {@link KafkaConnectApi#listWithInfoAndStatus(String, int)}, or null to get the config
+     *                          and status of this connector from the REST API.
+     * @return A Future which completes when the connector is reconciled.
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Map<String, Object>> runningConnectors) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
         Timer.Sample connectorsReconciliationsTimerSample = Timer.start(metrics.meterRegistry());
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -449,7 +471,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Map<String, Object>> runningConnectors) {
         if (connector == null) {
             if (useResources) {
                 log.info("{}: deleting connector: {}", reconciliation, connectorName);
@@ -468,7 +491,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector)
+                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors)
                         .onComplete(result -> {
                             if (result.succeeded()) {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
@@ -498,6 +521,64 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                        String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the current config and status of the connector from the {@code runningConnectors} snapshot instead of
+     * getting them from the REST API. When the connector has the desired config and state, no further requests are made.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param runningConnectors The info and status of all the connectors running in the Connect cluster as returned by
+     *                          {@link KafkaConnectApi#listWithInfoAndStatus(String, int)}, or null to get them from the
+     *                          REST API.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings("unchecked")
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                       String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                       Map<String, Map<String, Object>> runningConnectors) {
+        if (runningConnectors != null) {
+            Map<String, Object> current = runningConnectors.get(connectorName);
+
+            if (current == null) {
+                log.debug("{}: Connector {} does not exist", reconciliation, connectorName);
+                return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+                        .compose(createConnectorStatusAndConditions());
+            }
+
+            Map<String, String> config = new HashMap<>();
+            Map<String, Object> info = (Map<String, Object>) current.getOrDefault("info", emptyMap());
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) info.getOrDefault("config", emptyMap())).entrySet()) {
+                config.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+            }
+            Map<String, Object> status = (Map<String, Object>) current.get("status");
+
+            if (status == null || needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+                log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+                        .compose(createConnectorStatusAndConditions());
+            } else if (!needsPauseOrResume(connectorSpec, status)
+                    && !hasRestartAnnotation(resource, connectorName)
+                    && getRestartTaskAnnotationTaskID(resource, connectorName) < 0) {
+                log.debug("{}: Connector {} exists and has desired config and state", reconciliation, connectorName);
+                return createConnectorStatusAndConditions(new ArrayList<>()).apply(status);
+            } else {
+                log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status)
+                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
+                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                        .compose(conditions ->
+                            apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port, connectorName)
+                                .compose(createConnectorStatusAndConditions(conditions)));
+            }
+        }
+
         return apiClient.getConnectorConfig(new BackOff(200L, 2, 6), host, port, connectorName).compose(
             config -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
@@ -557,6 +638,15 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(host, port, connectorName));
     }
 
+    private boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+
+        return !(state instanceof String)
+                || ("RUNNING".equals(state) && shouldPause)
+                || ("PAUSED".equals(state) && !shouldPause);
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
@@ -23,6 +23,9 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -133,6 +136,7 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -159,6 +163,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private static final Logger log = LogManager.getLogger(KafkaAssemblyOperator.class.getName());
 
     private final long operationTimeoutMs;
+    private final int maxParallelBrokerRestarts;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
 
@@ -179,6 +184,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final Map<String, Timer> reconciliationStepTimers = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -195,6 +201,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxParallelBrokerRestarts = config.getMaxParallelBrokerRestarts();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.rbacScope = config.getRbacScope();
@@ -254,118 +261,148 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
-    Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
-
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.prepareVersionChange())
+    /**
+     * Runs the reconciliation steps. Each step declares the steps it depends on and steps which are independent of
+     * each other (for example the different ZooKeeper services, the Kafka routes and ingresses or the Entity Operator,
+     * Cruise Control, Kafka Exporter and JmxTrans stages) run concurrently.
+     *
+     * The steps are started and completed on the event loop. Steps running concurrently only read the shared models
+     * and write their own fields of the reconciliation state (for example eoDeployment, ccDeployment or
+     * existingKafkaExporterCertsChanged), which the dependent steps read once they are started. Steps which modify
+     * shared state on another thread run alone.
+     *
+     * @param state   Reconciliation state
+     *
+     * @return  Future which completes when the reconciliation is done
+     */
+    Future<Void> reconcile(ReconciliationState state)  {
+        return new ReconciliationStepGraph(vertx, state.reconciliation, this::reconciliationStepTimer)
+                .add("initialStatus", state::initialStatus)
+                .add("reconcileCas", () -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .add("clusterOperatorSecret", () -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                .add("getKafkaClusterDescription", state::getKafkaClusterDescription, "clusterOperatorSecret")
+                .add("prepareVersionChange", state::prepareVersionChange, "getKafkaClusterDescription")
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .add("rollingUpdateForNewCaKey", state::rollingUpdateForNewCaKey, "prepareVersionChange")
+
+                .add("getZookeeperDescription", state::getZookeeperDescription, "rollingUpdateForNewCaKey")
+                .add("zkModelWarnings", state::zkModelWarnings, "getZookeeperDescription")
+                .add("zkManualPodCleaning", state::zkManualPodCleaning, "zkModelWarnings")
+                .add("zkNetPolicy", state::zkNetPolicy, "zkManualPodCleaning")
+                .add("zkManualRollingUpdate", state::zkManualRollingUpdate, "zkNetPolicy")
+                .add("zkVersionChange", state::zkVersionChange, "zkManualRollingUpdate")
+                // The certificates are generated into the ZooKeeper model on a worker thread, so no other step using
+                // the model runs at the same time
+                .add("zkGenerateCertificates", () -> state.zkGenerateCertificates(this::dateSupplier), "zkVersionChange")
+                .add("zookeeperServiceAccount", state::zookeeperServiceAccount, "zkGenerateCertificates")
+                .add("zkPvcs", state::zkPvcs, "zkGenerateCertificates")
+                .add("zkService", state::zkService, "zkGenerateCertificates")
+                .add("zkHeadlessService", state::zkHeadlessService, "zkGenerateCertificates")
+                .add("zkAncillaryCm", state::zkAncillaryCm, "zkGenerateCertificates")
+                .add("zkNodesSecret", state::zkNodesSecret, "zkGenerateCertificates")
+                .add("zkPodDisruptionBudget", state::zkPodDisruptionBudget, "zkGenerateCertificates")
+                .add("zkStatefulSet", state::zkStatefulSet, "zookeeperServiceAccount", "zkPvcs", "zkService",
+                        "zkHeadlessService", "zkAncillaryCm", "zkNodesSecret", "zkPodDisruptionBudget")
+                .add("zkScalingDown", state::zkScalingDown, "zkStatefulSet")
+                .add("zkRollingUpdate", state::zkRollingUpdate, "zkScalingDown")
+                .add("zkPodsReady", state::zkPodsReady, "zkRollingUpdate")
+                .add("zkScalingUp", state::zkScalingUp, "zkPodsReady")
+                .add("zkScalingCheck", state::zkScalingCheck, "zkScalingUp")
+                .add("zkServiceEndpointReadiness", state::zkServiceEndpointReadiness, "zkScalingCheck")
+                .add("zkHeadlessServiceEndpointReadiness", state::zkHeadlessServiceEndpointReadiness, "zkScalingCheck")
+                .add("zkPersistentClaimDeletion", state::zkPersistentClaimDeletion, "zkServiceEndpointReadiness", "zkHeadlessServiceEndpointReadiness")
+
+                .add("checkKafkaSpec", state::checkKafkaSpec, "zkPersistentClaimDeletion")
+                .add("kafkaModelWarnings", state::kafkaModelWarnings, "checkKafkaSpec")
+                .add("kafkaManualPodCleaning", state::kafkaManualPodCleaning, "kafkaModelWarnings")
+                .add("kafkaNetPolicy", state::kafkaNetPolicy, "kafkaManualPodCleaning")
+                .add("kafkaManualRollingUpdate", state::kafkaManualRollingUpdate, "kafkaNetPolicy")
+                .add("kafkaPvcs", state::kafkaPvcs, "kafkaManualRollingUpdate")
+                .add("kafkaInitServiceAccount", state::kafkaInitServiceAccount, "kafkaPvcs")
+                .add("kafkaInitClusterRoleBinding", state::kafkaInitClusterRoleBinding, "kafkaInitServiceAccount")
+                .add("kafkaScaleDown", state::kafkaScaleDown, "kafkaInitClusterRoleBinding")
+                .add("kafkaServices", state::kafkaServices, "kafkaScaleDown")
+                .add("kafkaRoutes", state::kafkaRoutes, "kafkaScaleDown")
+                .add("kafkaIngresses", state::kafkaIngresses, "kafkaScaleDown")
+                .add("kafkaIngressesV1Beta1", state::kafkaIngressesV1Beta1, "kafkaScaleDown")
+                // The readiness steps collect the addresses of the listeners, so they run one after another
+                .add("kafkaInternalServicesReady", state::kafkaInternalServicesReady, "kafkaServices", "kafkaRoutes",
+                        "kafkaIngresses", "kafkaIngressesV1Beta1")
+                .add("kafkaLoadBalancerServicesReady", state::kafkaLoadBalancerServicesReady, "kafkaInternalServicesReady")
+                .add("kafkaNodePortServicesReady", state::kafkaNodePortServicesReady, "kafkaLoadBalancerServicesReady")
+                .add("kafkaRoutesReady", state::kafkaRoutesReady, "kafkaNodePortServicesReady")
+                .add("kafkaIngressesReady", state::kafkaIngressesReady, "kafkaRoutesReady")
+                .add("kafkaIngressesV1Beta1Ready", state::kafkaIngressesV1Beta1Ready, "kafkaIngressesReady")
+                .add("kafkaGenerateCertificates", () -> state.kafkaGenerateCertificates(this::dateSupplier), "kafkaIngressesV1Beta1Ready")
+                .add("customListenerCertificates", state::customListenerCertificates, "kafkaGenerateCertificates")
+                .add("kafkaAncillaryCm", state::kafkaAncillaryCm, "customListenerCertificates")
+                .add("kafkaBrokersSecret", state::kafkaBrokersSecret, "kafkaAncillaryCm")
+                .add("kafkaJmxSecret", state::kafkaJmxSecret, "kafkaBrokersSecret")
+                .add("kafkaPodDisruptionBudget", state::kafkaPodDisruptionBudget, "kafkaJmxSecret")
+                .add("kafkaStatefulSet", state::kafkaStatefulSet, "kafkaPodDisruptionBudget")
+                .add("kafkaRollToAddOrRemoveVolumes", state::kafkaRollToAddOrRemoveVolumes, "kafkaStatefulSet")
+                .add("kafkaRollingUpdate", state::kafkaRollingUpdate, "kafkaRollToAddOrRemoveVolumes")
+                .add("kafkaScaleUp", state::kafkaScaleUp, "kafkaRollingUpdate")
+                .add("kafkaPodsReady", state::kafkaPodsReady, "kafkaScaleUp")
+                .add("kafkaServiceEndpointReady", state::kafkaServiceEndpointReady, "kafkaPodsReady")
+                .add("kafkaHeadlessServiceEndpointReady", state::kafkaHeadlessServiceEndpointReady, "kafkaServiceEndpointReady")
+                .add("kafkaGetClusterId", state::kafkaGetClusterId, "kafkaHeadlessServiceEndpointReady")
+                .add("kafkaPersistentClaimDeletion", state::kafkaPersistentClaimDeletion, "kafkaGetClusterId")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.checkUnsupportedTopicOperator())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .add("kafkaNodePortExternalListenerStatus", state::kafkaNodePortExternalListenerStatus, "kafkaPersistentClaimDeletion")
+                .add("kafkaCustomCertificatesToStatus", state::kafkaCustomCertificatesToStatus, "kafkaNodePortExternalListenerStatus")
+
+                .add("checkUnsupportedTopicOperator", state::checkUnsupportedTopicOperator, "kafkaCustomCertificatesToStatus")
+
+                .add("getEntityOperatorDescription", state::getEntityOperatorDescription, "checkUnsupportedTopicOperator")
+                .add("entityOperatorRole", state::entityOperatorRole, "getEntityOperatorDescription")
+                .add("entityTopicOperatorRole", state::entityTopicOperatorRole, "entityOperatorRole")
+                .add("entityUserOperatorRole", state::entityUserOperatorRole, "entityTopicOperatorRole")
+                .add("entityOperatorServiceAccount", state::entityOperatorServiceAccount, "entityUserOperatorRole")
+                .add("entityOperatorTopicOpRoleBindingForRole", state::entityOperatorTopicOpRoleBindingForRole, "entityOperatorServiceAccount")
+                .add("entityOperatorUserOpRoleBindingForRole", state::entityOperatorUserOpRoleBindingForRole, "entityOperatorTopicOpRoleBindingForRole")
+                .add("entityOperatorTopicOpAncillaryCm", state::entityOperatorTopicOpAncillaryCm, "entityOperatorUserOpRoleBindingForRole")
+                .add("entityOperatorUserOpAncillaryCm", state::entityOperatorUserOpAncillaryCm, "entityOperatorTopicOpAncillaryCm")
+                .add("entityOperatorSecret", () -> state.entityOperatorSecret(this::dateSupplier), "entityOperatorUserOpAncillaryCm")
+                .add("entityOperatorDeployment", state::entityOperatorDeployment, "entityOperatorSecret")
+                .add("entityOperatorReady", state::entityOperatorReady, "entityOperatorDeployment")
+
+                .add("getCruiseControlDescription", state::getCruiseControlDescription, "checkUnsupportedTopicOperator")
+                .add("cruiseControlNetPolicy", state::cruiseControlNetPolicy, "getCruiseControlDescription")
+                .add("cruiseControlServiceAccount", state::cruiseControlServiceAccount, "cruiseControlNetPolicy")
+                .add("cruiseControlAncillaryCm", state::cruiseControlAncillaryCm, "cruiseControlServiceAccount")
+                .add("cruiseControlSecret", () -> state.cruiseControlSecret(this::dateSupplier), "cruiseControlAncillaryCm")
+                .add("cruiseControlDeployment", state::cruiseControlDeployment, "cruiseControlSecret")
+                .add("cruiseControlService", state::cruiseControlService, "cruiseControlDeployment")
+                .add("cruiseControlReady", state::cruiseControlReady, "cruiseControlService")
+
+                .add("getKafkaExporterDescription", state::getKafkaExporterDescription, "checkUnsupportedTopicOperator")
+                .add("kafkaExporterServiceAccount", state::kafkaExporterServiceAccount, "getKafkaExporterDescription")
+                .add("kafkaExporterSecret", () -> state.kafkaExporterSecret(this::dateSupplier), "kafkaExporterServiceAccount")
+                .add("kafkaExporterDeployment", state::kafkaExporterDeployment, "kafkaExporterSecret")
+                .add("kafkaExporterReady", state::kafkaExporterReady, "kafkaExporterDeployment")
+
+                .add("getJmxTransDescription", state::getJmxTransDescription, "checkUnsupportedTopicOperator")
+                .add("jmxTransServiceAccount", state::jmxTransServiceAccount, "getJmxTransDescription")
+                .add("jmxTransConfigMap", state::jmxTransConfigMap, "jmxTransServiceAccount")
+                .add("jmxTransDeployment", state::jmxTransDeployment, "jmxTransConfigMap")
+                .add("jmxTransDeploymentReady", state::jmxTransDeploymentReady, "jmxTransDeployment")
+
+                .execute();
+    }
+
+    /**
+     * Gets the timer for the given reconciliation step. The timers are cached to not look them up in the meter
+     * registry for every step of every reconciliation.
+     *
+     * @param step  Name of the reconciliation step
+     *
+     * @return  Timer for the reconciliation step
+     */
+    private Timer reconciliationStepTimer(String step) {
+        return reconciliationStepTimers.computeIfAbsent(step, s -> metrics.timer(METRICS_PREFIX + "reconciliation.step.duration",
+                "The time the individual steps of the reconciliation take to complete",
+                Tags.of(Tag.of("kind", kind()), Tag.of("step", s))));
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -738,7 +775,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true, maxParallelBrokerRestarts)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1114,7 +1151,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration,
+                        maxParallelBrokerRestarts)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -3731,6 +3769,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        zkSetOperations.removeCluster(reconciliation.namespace(), reconciliation.name());
         return withIgnoreRbacError(clusterRoleBindingOperations.reconcile(KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
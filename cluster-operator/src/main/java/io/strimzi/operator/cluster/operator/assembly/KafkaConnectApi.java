@@ -119,6 +119,16 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=info&expand=status}.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map from the connector name to its information and status. The information (including the
+     * connector's config) is under the {@code info} key and the status under the {@code status} key.
+     */
+    Future<Map<String, Map<String, Object>>> listWithInfoAndStatus(String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param host The host to make the request to.
@@ -166,6 +176,11 @@ public interface KafkaConnectApi {
      * @return A Future which completes with the result of the request.
      */
     Future<Void> restartTask(String host, int port, String connectorName, int taskID);
+
+    /**
+     *  Close the client and the connections it keeps open to the Kafka Connect clusters.
+     */
+    void close();
 }
 
 class ConnectRestException extends RuntimeException {
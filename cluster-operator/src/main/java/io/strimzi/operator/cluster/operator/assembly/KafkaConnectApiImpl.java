@@ -7,8 +7,13 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Future;
@@ -32,13 +37,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 
 @SuppressWarnings({"deprecation"})
-class KafkaConnectApiImpl implements KafkaConnectApi {
+public class KafkaConnectApiImpl implements KafkaConnectApi {
     private static final Logger log = LogManager.getLogger(KafkaConnectApiImpl.class);
     public static final TypeReference<Map<String, Object>> TREE_TYPE = new TypeReference<Map<String, Object>>() {
     };
@@ -48,11 +55,81 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<Map<String, Map<String, String>>>() {
 
     };
+
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<Map<String, Map<String, Object>>>() {
+    };
+    /**
+     * Maximum number of connections kept open to a single Kafka Connect cluster. Requests which cannot get a connection
+     * wait until one of the running requests completes.
+     */
+    public static final int MAX_CONNECTIONS_PER_CLUSTER = 10;
+
+    /**
+     * Time in seconds after which idle connections are closed. It is lower than the idle timeout of the Kafka Connect
+     * REST server, so that the operator does not try to reuse connections which the server is just closing.
+     */
+    private static final int IDLE_TIMEOUT_SECONDS = 20;
+
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClient httpClient;
+
+    private final Timer requestsTimer;
+    private final Counter requestsCounter;
+    private final Counter connectionsCounter;
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * Creates the client. The client keeps a pool of keep-alive connections to each Kafka Connect cluster and should
+     * be shared by all the operators and reconciliations. It has to be closed with {@link #close()} once it is not used
+     * anymore.
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider used to publish the request and connection metrics, or null
+     */
+    public KafkaConnectApiImpl(Vertx vertx, MetricsProvider metrics) {
         this.vertx = vertx;
+        this.httpClient = vertx.createHttpClient(new HttpClientOptions()
+                .setLogActivity(true)
+                .setKeepAlive(true)
+                .setMaxPoolSize(MAX_CONNECTIONS_PER_CLUSTER)
+                .setIdleTimeout(IDLE_TIMEOUT_SECONDS));
+
+        if (metrics != null) {
+            requestsTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "connect.rest.requests.duration",
+                    "The time the requests to the Kafka Connect REST API take to complete",
+                    Tags.empty());
+            requestsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "connect.rest.requests",
+                    "Number of requests sent to the Kafka Connect REST API",
+                    Tags.empty());
+            connectionsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "connect.rest.connections",
+                    "Number of connections opened to the Kafka Connect REST API",
+                    Tags.empty());
+
+            httpClient.connectionHandler(connection -> connectionsCounter.increment());
+        } else {
+            requestsTimer = null;
+            requestsCounter = null;
+            connectionsCounter = null;
+        }
+    }
+
+    /**
+     * Creates a client provider which always returns the same client, so that the connections are reused across
+     * reconciliations. The client is not closed by the operators using it, so the Cluster Operator creates a single
+     * client shared by all the operators instead and closes it when it stops.
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider used to publish the request and connection metrics
+     *
+     * @return  Client provider
+     */
+    public static Function<Vertx, KafkaConnectApi> sharedClientProvider(Vertx vertx, MetricsProvider metrics) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, metrics);
+        return ignored -> client;
     }
 
     @Override
@@ -95,25 +172,31 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     /**
-     * Perform the given operation, which completes the promise, using an HTTP client instance,
-     * after which the client is closed and the future for the promise returned.
+     * Perform the given operation, which completes the promise, using the pooled HTTP client
+     * and return the future for the promise.
      * @param operation The operation to perform.
      * @param <T> The type of the result
      * @return A future which is completed with the result performed by the operation
      */
     private <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
-        HttpClient httpClient = vertx.createHttpClient(new HttpClientOptions().setLogActivity(true));
         Promise<T> promise = Promise.promise();
-        operation.accept(httpClient, promise);
-        return promise.future().compose(
-            result -> {
-                httpClient.close();
-                return Future.succeededFuture(result);
-            },
-            error -> {
-                httpClient.close();
-                return Future.failedFuture(error);
-            });
+        long startTime = System.nanoTime();
+
+        if (requestsCounter != null) {
+            requestsCounter.increment();
+        }
+
+        try {
+            operation.accept(httpClient, promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+
+        return promise.future().onComplete(ignored -> {
+            if (requestsTimer != null) {
+                requestsTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        });
     }
 
     @Override
@@ -328,6 +411,13 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .end());
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithInfoAndStatus(String host, int port) {
+        return doGet(host, port, "/connectors?expand=info&expand=status",
+                Collections.singleton(200),
+                MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         String path = "/connector-plugins";
@@ -518,4 +608,9 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             .putHeader("Accept", "application/json")
             .end());
     }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
 }
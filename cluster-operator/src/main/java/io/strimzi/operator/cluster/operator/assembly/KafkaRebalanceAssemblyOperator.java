@@ -30,7 +30,9 @@ import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlTaskPoller;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -41,6 +43,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -53,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -138,6 +142,8 @@ public class KafkaRebalanceAssemblyOperator
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final PlatformFeaturesAvailability pfa;
     private final Optional<LabelSelector> kafkaSelector;
+    private final CruiseControlApi cruiseControlClient;
+    /*test*/ final Map<String, CruiseControlTaskPoller> taskPollers = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -152,15 +158,25 @@ public class KafkaRebalanceAssemblyOperator
         this.pfa = pfa;
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
+        this.cruiseControlClient = new CruiseControlApiImpl(vertx, config.getCruiseControlRequestTimeoutMs(),
+                config.getCruiseControlMaxConnections(), supplier.metricsProvider);
     }
 
     /**
-     * Provides an implementation of the Cruise Control API client
+     * Provides an implementation of the Cruise Control API client. The client is shared by all the reconciliations,
+     * so that the connections to Cruise Control are reused.
      *
      * @return Cruise Control API client instance
      */
     protected CruiseControlApi cruiseControlClientProvider() {
-        return new CruiseControlApiImpl(vertx);
+        return cruiseControlClient;
+    }
+
+    /**
+     * Closes the Cruise Control API client and its connections
+     */
+    public void close() {
+        cruiseControlClient.close();
     }
 
     /**
@@ -174,6 +190,46 @@ public class KafkaRebalanceAssemblyOperator
         return CruiseControlResources.qualifiedServiceName(clusterName, clusterNamespace);
     }
 
+    /**
+     * Gets the poller of the user tasks of a Cruise Control instance, which is shared by all the rebalances of the
+     * same Kafka cluster.
+     *
+     * @param host Cruise Control service to which sending the REST API requests
+     * @param apiClient Cruise Control REST API client instance
+     * @return the user tasks poller of the Cruise Control instance
+     */
+    private CruiseControlTaskPoller taskPoller(String host, CruiseControlApi apiClient) {
+        return taskPollers.computeIfAbsent(host,
+            h -> new CruiseControlTaskPoller(vertx, apiClient, h, CruiseControl.REST_API_PORT, REBALANCE_POLLING_TIMER_MS));
+    }
+
+    /**
+     * Cancels a subscription to the user tasks poller of a Cruise Control instance. The poller is removed once its
+     * last subscription is cancelled, so that the pollers of deleted Kafka clusters are not kept.
+     *
+     * @param host Cruise Control service to which sending the REST API requests
+     * @param poller The poller the subscription belongs to
+     * @param subscriptionId The id of the subscription
+     */
+    private void cancelPolling(String host, CruiseControlTaskPoller poller, long subscriptionId) {
+        if (poller.cancel(subscriptionId)) {
+            // A poller which got a new subscription in the meantime keeps running until it is cancelled, but the next
+            // rebalances use a new poller
+            taskPollers.remove(host, poller);
+        }
+    }
+
+    /**
+     * @param taskStatus Result of the polling of a user task status
+     * @return the status of the user task, or null if the polling failed or Cruise Control does not know the task
+     */
+    private static CruiseControlUserTaskStatus userTaskStatus(AsyncResult<JsonObject> taskStatus) {
+        if (taskStatus.failed() || taskStatus.result() == null) {
+            return null;
+        }
+        return CruiseControlUserTaskStatus.lookup(taskStatus.result().getString("Status"));
+    }
+
     /**
      * Create a watch on {@code KafkaRebalance} in the given {@code watchNamespaceOrWildcard}.
      *
@@ -472,8 +528,8 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code PendingProposal} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance proposal processing on Cruise Control side.
-     * In order to do that, it calls the Cruise Control API for requesting the rebalance proposal.
+     * It subscribes to the shared poller of the Cruise Control user tasks in order to check the status of the ongoing rebalance proposal processing on Cruise Control side.
+     * Once the proposal is no longer being computed, it calls the Cruise Control API for requesting the rebalance proposal.
      * When the proposal is ready, the next state is {@code ProposalReady}.
      * If the user sets the strimzi.io/rebalance=stop annotation, it stops polling the Cruise Control API for requesting the rebalance proposal.
      * If the user sets any other values for the strimzi.io/rebalance annotation, it is ignored and the rebalance proposal request continues.
@@ -496,7 +552,8 @@ public class KafkaRebalanceAssemblyOperator
         Promise<KafkaRebalanceStatus> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             log.debug("{}: Starting Cruise Control rebalance proposal request timer", reconciliation);
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t ->
+            CruiseControlTaskPoller poller = taskPoller(host, apiClient);
+            poller.poll(kafkaRebalance.getStatus().getSessionId(), (t, polledStatus) ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                     .onSuccess(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
@@ -506,8 +563,11 @@ public class KafkaRebalanceAssemblyOperator
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     log.debug("{}: Stopping current Cruise Control proposal request timer", reconciliation);
-                                    vertx.cancelTimer(t);
+                                    cancelPolling(host, poller, t);
                                     p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped));
+                                } else if (userTaskStatus(polledStatus) == CruiseControlUserTaskStatus.ACTIVE) {
+                                    // The proposal is still being computed, there is no need to ask for it again yet
+                                    log.debug("{}: Waiting for optimization proposal to be ready", reconciliation);
                                 } else {
                                     requestRebalance(reconciliation, host, apiClient, true, rebalanceOptionsBuilder,
                                             currentKafkaRebalance.getStatus().getSessionId())
@@ -516,7 +576,7 @@ public class KafkaRebalanceAssemblyOperator
                                             // is ready, so stop the polling
                                             if (rebalanceStatus.getOptimizationResult() != null &&
                                                     !rebalanceStatus.getOptimizationResult().isEmpty()) {
-                                                vertx.cancelTimer(t);
+                                                cancelPolling(host, poller, t);
                                                 log.debug("{}: Optimization proposal ready", reconciliation);
                                                 p.complete(rebalanceStatus);
                                             } else {
@@ -526,7 +586,7 @@ public class KafkaRebalanceAssemblyOperator
                                         })
                                         .onFailure(e -> {
                                             log.error("{}: Cruise Control getting rebalance proposal failed", reconciliation, e.getCause());
-                                            vertx.cancelTimer(t);
+                                            cancelPolling(host, poller, t);
                                             p.fail(e.getCause());
                                         });
                                 }
@@ -535,13 +595,13 @@ public class KafkaRebalanceAssemblyOperator
                             }
                         } else {
                             log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
+                            cancelPolling(host, poller, t);
                             p.complete();
                         }
                     })
                     .onFailure(e -> {
                         log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
-                        vertx.cancelTimer(t);
+                        cancelPolling(host, poller, t);
                         p.fail(e.getCause());
                     })
             );
@@ -591,8 +651,8 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * It subscribes to the shared poller of the Cruise Control user tasks in order to check the status of the ongoing rebalance processing on Cruise Control side.
+     * The poller asks the related Cruise Control REST API about the status of all the polled user tasks at once.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -615,10 +675,11 @@ public class KafkaRebalanceAssemblyOperator
             log.info("{}: Starting Cruise Control rebalance user task status timer", reconciliation);
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
+            CruiseControlTaskPoller poller = taskPoller(host, apiClient);
+            poller.poll(sessionId, (t, polledStatus) -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
+                    cancelPolling(host, poller, t);
                     p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
                 }
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
@@ -630,7 +691,7 @@ public class KafkaRebalanceAssemblyOperator
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     log.debug("{}: Stopping current Cruise Control rebalance user task", reconciliation);
-                                    vertx.cancelTimer(t);
+                                    cancelPolling(host, poller, t);
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
                                         .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped)))
                                         .onFailure(e -> {
@@ -639,13 +700,17 @@ public class KafkaRebalanceAssemblyOperator
                                         });
                                 } else {
                                     log.info("{}: Getting Cruise Control rebalance user task status", reconciliation);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
+                                    // The status is normally included in the response of the shared poller. When it
+                                    // is not, it is requested for this task only.
+                                    Future<JsonObject> taskStatusFuture = polledStatus.succeeded() && polledStatus.result() != null
+                                            ? Future.succeededFuture(polledStatus.result())
+                                            : apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId).map(CruiseControlResponse::getJson);
+                                    taskStatusFuture
+                                        .onSuccess(taskStatusJson -> {
                                             CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
                                             switch (taskStatus) {
                                                 case COMPLETED:
-                                                    vertx.cancelTimer(t);
+                                                    cancelPolling(host, poller, t);
                                                     log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
                                                     p.complete(buildRebalanceStatus(
                                                         null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
@@ -656,7 +721,7 @@ public class KafkaRebalanceAssemblyOperator
                                                     // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
                                                     //       details of any issues while rebalancing.
                                                     log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
-                                                    vertx.cancelTimer(t);
+                                                    cancelPolling(host, poller, t);
                                                     p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady));
                                                     break;
                                                 case IN_EXECUTION: // Rebalance is still in progress
@@ -668,7 +733,7 @@ public class KafkaRebalanceAssemblyOperator
                                                             currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
                                                         log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
                                                         // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
+                                                        cancelPolling(host, poller, t);
                                                         p.complete(buildRebalanceStatus(
                                                             sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
                                                     }
@@ -686,7 +751,7 @@ public class KafkaRebalanceAssemblyOperator
                                                     break;
                                                 default:
                                                     log.error("{}: Unexpected state {}", reconciliation, taskStatus);
-                                                    vertx.cancelTimer(t);
+                                                    cancelPolling(host, poller, t);
                                                     p.fail("Unexpected state " + taskStatus);
                                                     break;
                                             }
@@ -703,13 +768,13 @@ public class KafkaRebalanceAssemblyOperator
                             }
                         } else {
                             log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
+                            cancelPolling(host, poller, t);
                             p.complete();
                         }
                     })
                     .onFailure(e -> {
                         log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
-                        vertx.cancelTimer(t);
+                        cancelPolling(host, poller, t);
                         p.fail(e.getCause());
                     });
             });
@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executes the steps of a reconciliation as a dependency graph. Each step declares the steps it depends on and is
+ * started as soon as all of them succeeded. Steps which do not depend on each other run concurrently.
+ *
+ * All steps are started, and their completion is handled, on the Vert.x context on which the graph was executed. So
+ * the steps never start at the same time in different threads and everything a step wrote before its Future completed
+ * is visible to the steps depending on it, even when the Future is completed from another thread. Steps which run
+ * concurrently must write only their own state. Once any step fails, no new steps are started. The execution
+ * completes when all the running steps completed and fails with the cause of the first failed step.
+ *
+ * The duration of each step is recorded in the timer returned for the step name.
+ */
+class ReconciliationStepGraph {
+    private static final Logger log = LogManager.getLogger(ReconciliationStepGraph.class.getName());
+
+    private final Vertx vertx;
+    private final Reconciliation reconciliation;
+    private final Function<String, Timer> stepTimers;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    // Accessed only from the context on which the graph is executed
+    private Throwable failure;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param reconciliation    The reconciliation to which the steps belong
+     * @param stepTimers        Returns the timer used to record the duration of the step with given name or null to
+     *                          not record the durations
+     */
+    ReconciliationStepGraph(Vertx vertx, Reconciliation reconciliation, Function<String, Timer> stepTimers) {
+        this.vertx = vertx;
+        this.reconciliation = reconciliation;
+        this.stepTimers = stepTimers;
+    }
+
+    /**
+     * Adds a step to the graph. The dependencies have to be added before the steps depending on them, so the graph
+     * cannot contain any cycles.
+     *
+     * @param name          Unique name of the step
+     * @param action        Starts the step and returns a Future which completes when the step is done
+     * @param dependencies  Names of the steps which have to succeed before this step is started
+     *
+     * @return  This graph
+     */
+    ReconciliationStepGraph add(String name, Supplier<Future<?>> action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " already exists");
+        }
+
+        List<Step> stepDependencies = new ArrayList<>(dependencies.length);
+        for (String dependency : dependencies) {
+            Step step = steps.get(dependency);
+
+            if (step == null) {
+                throw new IllegalArgumentException("Step " + name + " depends on unknown step " + dependency);
+            }
+
+            stepDependencies.add(step);
+        }
+
+        steps.put(name, new Step(name, action, stepDependencies));
+        return this;
+    }
+
+    /**
+     * Executes the steps. The graph can be executed only once.
+     *
+     * @return  Future which completes when all steps succeeded or fails when any of them failed
+     */
+    Future<Void> execute() {
+        Context context = vertx.getOrCreateContext();
+        Promise<Void> resultPromise = Promise.promise();
+        List<Future> stepFutures = new ArrayList<>(steps.size());
+
+        for (Step step : steps.values()) {
+            List<Future> dependencyFutures = new ArrayList<>(step.dependencies.size());
+            for (Step dependency : step.dependencies) {
+                dependencyFutures.add(dependency.promise.future());
+            }
+
+            CompositeFuture.all(dependencyFutures)
+                    .onComplete(res -> context.runOnContext(v -> {
+                        if (res.failed()) {
+                            step.promise.fail(res.cause());
+                        } else if (failure != null) {
+                            step.promise.fail(failure);
+                        } else {
+                            run(context, step);
+                        }
+                    }));
+
+            stepFutures.add(step.promise.future());
+        }
+
+        CompositeFuture.join(stepFutures)
+                .onComplete(res -> context.runOnContext(v -> {
+                    if (failure != null) {
+                        resultPromise.fail(failure);
+                    } else {
+                        resultPromise.complete();
+                    }
+                }));
+
+        return resultPromise.future();
+    }
+
+    private void run(Context context, Step step) {
+        log.trace("{}: Starting reconciliation step {}", reconciliation, step.name);
+        long startTime = System.nanoTime();
+
+        Future<?> result;
+        try {
+            result = step.action.get();
+        } catch (Throwable e) {
+            result = Future.failedFuture(e);
+        }
+
+        result.onComplete(res -> context.runOnContext(v -> {
+            if (stepTimers != null) {
+                stepTimers.apply(step.name).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+
+            if (res.succeeded()) {
+                log.trace("{}: Reconciliation step {} succeeded", reconciliation, step.name);
+                step.promise.complete();
+            } else {
+                log.debug("{}: Reconciliation step {} failed", reconciliation, step.name, res.cause());
+                if (failure == null) {
+                    failure = res.cause();
+                }
+                step.promise.fail(res.cause());
+            }
+        }));
+    }
+
+    private static class Step {
+        private final String name;
+        private final Supplier<Future<?>> action;
+        private final List<Step> dependencies;
+        private final Promise<Void> promise = Promise.promise();
+
+        Step(String name, Supplier<Future<?>> action, List<Step> dependencies) {
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+    }
+}
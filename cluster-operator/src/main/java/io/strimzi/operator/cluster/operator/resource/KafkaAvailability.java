@@ -23,6 +23,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,23 +32,45 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>An instance is meant to be used for the whole of a rolling restart.
+ * It describes all the topics once, and then only refreshes the descriptions (and thus the ISRs)
+ * of the topics which have replicas on the broker being checked.
+ * Topic configs are fetched once per topic and cached for the lifetime of the instance.
+ * If describing the topics fails, the snapshot is discarded and rebuilt on the next check.</p>
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
     private final Admin ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Map<String, Config> topicConfigs = new ConcurrentHashMap<>();
+    private volatile Future<Map<String, TopicDescription>> descriptions;
+    private final AtomicBoolean snapshotFresh = new AtomicBoolean(false);
 
     KafkaAvailability(Admin ac) {
         this.ac = ac;
+        this.descriptions = snapshot();
+    }
+
+    /**
+     * Lists and describes all the topics.
+     */
+    private Future<Map<String, TopicDescription>> snapshot() {
         // 1. Get all topic names
         Future<Set<String>> topicNames = topicNames();
         // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
+        return topicNames.compose(names -> {
             log.debug("Got {} topic names", names.size());
             log.trace("Topic names {}", names);
             return describeTopics(names);
+        }).map(tds -> {
+            Map<String, TopicDescription> snapshot = new ConcurrentHashMap<>(tds.size());
+            for (TopicDescription td : tds) {
+                snapshot.put(td.name(), td);
+            }
+            snapshotFresh.set(true);
+            return snapshot;
         });
     }
 
@@ -56,15 +80,52 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(currentSnapshot(), podId);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
+    /**
+     * @return The snapshot of the topic descriptions, taking a new one if the previous attempt failed.
+     */
+    private Future<Map<String, TopicDescription>> currentSnapshot() {
+        Future<Map<String, TopicDescription>> snapshot = descriptions;
+        if (snapshot.failed()) {
+            log.debug("Describing the topics again because the previous attempt failed");
+            snapshot = snapshot();
+            descriptions = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Determine the brokers which host a replica of any of the partitions hosted by the given broker.
+     * Brokers which are not among them can be restarted at the same time as the given broker
+     * without affecting the availability of its partitions.
+     */
+    Future<Set<Integer>> replicaPeers(int podId) {
+        return currentSnapshot().map(tds -> {
+            Set<Integer> peers = new HashSet<>();
+            for (TopicDescription td : tds.values()) {
+                for (TopicPartitionInfo pi : td.partitions()) {
+                    if (contains(pi.replicas(), podId)) {
+                        for (Node replica : pi.replicas()) {
+                            peers.add(replica.id());
+                        }
+                    }
+                }
+            }
+            peers.remove(podId);
+            return peers;
+        });
+    }
+
+    private Future<Boolean> canRollBroker(Future<Map<String, TopicDescription>> descriptions, int podId) {
         Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+                .compose(snapshot -> {
+                    log.debug("Got {} topic descriptions", snapshot.size());
+                    return refreshIsrs(snapshot, groupTopicsByBroker(snapshot.values(), podId));
+                })
+                .map(tds -> groupTopicsByBroker(tds, podId))
+                .recover(error -> {
                     log.warn(error);
                     return Future.failedFuture(error);
                 });
@@ -88,6 +149,28 @@ class KafkaAvailability {
         });
     }
 
+    /**
+     * Returns up-to-date descriptions of the given topics, updating the snapshot with them.
+     * The descriptions from a snapshot which has not been used yet are up-to-date already.
+     */
+    private Future<Collection<TopicDescription>> refreshIsrs(Map<String, TopicDescription> snapshot, Set<TopicDescription> tds) {
+        if (snapshotFresh.getAndSet(false) || tds.isEmpty()) {
+            return Future.succeededFuture(tds);
+        }
+        Set<String> names = tds.stream().map(TopicDescription::name).collect(Collectors.toSet());
+        log.debug("Refreshing the descriptions of {} topics", names.size());
+        return describeTopics(names).map(refreshed -> {
+            for (TopicDescription td : refreshed) {
+                snapshot.put(td.name(), td);
+            }
+            return refreshed;
+        }).recover(error -> {
+            // A topic might have been deleted since the snapshot was taken
+            descriptions = Future.failedFuture(error);
+            return Future.failedFuture(error);
+        });
+    }
+
     private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
         Config config = nameToConfig.get(td.name());
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
@@ -147,20 +230,25 @@ class KafkaAvailability {
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
-        log.debug("Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
+                .filter(topicName -> !topicConfigs.containsKey(topicName))
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
+        if (configs.isEmpty()) {
+            log.debug("Using cached topic configs for {} topics", topicNames.size());
+            return Future.succeededFuture(topicConfigs);
+        }
+        log.debug("Getting topic configs for {} topics", configs.size());
         Promise<Map<String, Config>> promise = Promise.promise();
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
             if (error != null) {
                 promise.fail(error);
             } else {
-                log.debug("Got topic configs for {} topics", topicNames.size());
-                promise.complete(topicNameToConfig.entrySet().stream()
-                        .collect(Collectors.toMap(
-                            entry -> entry.getKey().name(),
-                            entry -> entry.getValue())));
+                log.debug("Got topic configs for {} topics", configs.size());
+                for (Map.Entry<ConfigResource, Config> entry : topicNameToConfig.entrySet()) {
+                    topicConfigs.put(entry.getKey().name(), entry.getValue());
+                }
+                promise.complete(topicConfigs);
             }
         });
         return promise.future();
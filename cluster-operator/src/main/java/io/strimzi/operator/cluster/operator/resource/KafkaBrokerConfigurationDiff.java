@@ -9,13 +9,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
@@ -28,8 +23,6 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
-
 /**
  The algorithm:
  *  1. Create a map from the supplied desired String
@@ -74,8 +67,11 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String placeholder, String value) {
+        String placeholderToken = "${" + placeholder + "}";
         orderedProperties.entrySet().forEach(entry -> {
-            entry.setValue(entry.getValue().replaceAll("\\$\\{" + Pattern.quote(placeholder) + "\\}", value));
+            if (entry.getValue().contains(placeholderToken)) {
+                entry.setValue(entry.getValue().replace(placeholderToken, value));
+            }
         });
     }
 
@@ -86,9 +82,9 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
      * @return true if property in desired map has a default value
      */
     boolean isDesiredPropertyDefaultValue(String key, Config config) {
-        Optional<ConfigEntry> entry = config.entries().stream().filter(configEntry -> configEntry.name().equals(key)).findFirst();
-        if (entry.isPresent()) {
-            return entry.get().isDefault();
+        ConfigEntry entry = config.get(key);
+        if (entry != null) {
+            return entry.isDefault();
         }
         return false;
     }
@@ -146,58 +142,41 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
-
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
         Map<String, String> desiredMap = orderedProperties.asMap();
 
         fillPlaceholderValue(desiredMap, "STRIMZI_BROKER_ID", Integer.toString(brokerId));
 
-        JsonNode source = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(currentMap);
-        JsonNode target = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
-
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+        // Entries which are in the current configuration: changed or removed in desired
+        for (ConfigEntry entry : brokerConfigs.entries()) {
+            String name = entry.name();
+            String currentValue = entry.value() == null ? "null" : entry.value();
+            String desiredValue = desiredMap.get(name);
 
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry);
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE);
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE);
-                }
+            if (desiredValue == null) {
+                // there is a lot of properties set by default - not having them in desired causes very noisy log output
+                log.trace("Kafka Broker {} Config Differs : {} was removed", brokerId, name);
+                log.trace("Current Kafka Broker Config path {} has value {}", name, currentValue);
+                removeProperty(configModel, updatedCE, name, entry);
+            } else if (!currentValue.equals(desiredValue)) {
+                log.debug("Kafka Broker {} Config Differs : {} was changed", brokerId, name);
+                log.debug("Current Kafka Broker Config path {} has value {}", name, currentValue);
+                log.debug("Desired Kafka Broker Config path {} has value {}", name, desiredValue);
+                updateOrAdd(name, configModel, desiredMap, updatedCE);
             }
+        }
 
-            if ("remove".equals(op)) {
-                // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                log.trace("Kafka Broker {} Config Differs : {}", brokerId, d);
-                log.trace("Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                log.trace("Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                log.debug("Kafka Broker {} Config Differs : {}", brokerId, d);
-                log.debug("Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                log.debug("Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+        // Entries which are only in desired: added
+        for (Map.Entry<String, String> desiredEntry : desiredMap.entrySet()) {
+            String name = desiredEntry.getKey();
+            if (brokerConfigs.get(name) == null) {
+                log.debug("Kafka Broker {} Config Differs : {} was added", brokerId, name);
+                log.debug("Desired Kafka Broker Config path {} has value {}", name, desiredEntry.getValue());
+                updateOrAdd(name, configModel, desiredMap, updatedCE);
             }
         }
 
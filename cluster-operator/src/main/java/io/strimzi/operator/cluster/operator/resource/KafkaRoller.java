@@ -10,6 +10,7 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -93,6 +94,11 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>By default, the pods are rolled one at a time. When {@code maxParallelRestarts} is greater than one,
+ * up to that many pods are considered at the same time. A pod is only restarted alongside other pods when none of
+ * the pods being restarted hosts a replica of any of its partitions, so that the min.isr check in step 5 remains
+ * valid for all of them. With rack awareness, this typically allows the brokers of the same rack to be rolled together.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -123,7 +129,11 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
-    private Admin allClient;
+    private final int maxParallelRestarts;
+    private volatile Admin allClient;
+    private volatile KafkaAvailability kafkaAvailability;
+    /** The pods being restarted, mapped to the brokers they share partitions with (null if not known) */
+    private final Map<Integer, Set<Integer>> restartingPods = new HashMap<>();
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
                         long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,6 +148,16 @@ public class KafkaRoller {
                         StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                         AdminClientProvider adminClientProvider,
                         String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration, 1);
+    }
+
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                        AdminClientProvider adminClientProvider,
+                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                        int maxParallelRestarts) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -154,6 +174,10 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxParallelRestarts = maxParallelRestarts;
+        // When rolling in parallel, every pod gets its own thread, the pods waiting for a restart slot being blocked
+        this.executor = Executors.newScheduledThreadPool(maxParallelRestarts > 1 ? Math.max(numPods, 1) : 1,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -164,8 +188,7 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
+    private final ScheduledExecutorService executor;
 
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
@@ -174,7 +197,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -208,7 +231,7 @@ public class KafkaRoller {
         }
         Promise<Void> result = Promise.promise();
         CompositeFuture.join(futures).onComplete(ar -> {
-            singleExecutor.shutdown();
+            executor.shutdown();
             try {
                 if (allClient != null) {
                     allClient.close(Duration.ofSeconds(30));
@@ -259,7 +282,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled at most {@code maxParallelRestarts} at a time so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -268,7 +291,7 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
@@ -280,7 +303,7 @@ public class KafkaRoller {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -354,18 +377,23 @@ public class KafkaRoller {
                     log.debug("{}: Pod {} is controller and there are other pods to roll", reconciliation, podId);
                     throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
                 } else {
-                    if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
-                            log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    acquireRestartSlot(podId);
+                    try {
+                        if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                                log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            } else {
+                                // TODO do we need some check here that the broker is still OK?
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
                         } else {
-                            // TODO do we need some check here that the broker is still OK?
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            log.debug("{}: Pod {} cannot be rolled right now", reconciliation, podId);
+                            throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
                         }
-                    } else {
-                        log.debug("{}: Pod {} cannot be rolled right now", reconciliation, podId);
-                        throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
+                    } finally {
+                        releaseRestartSlot(podId);
                     }
                 }
             } else {
@@ -379,12 +407,17 @@ public class KafkaRoller {
             }
         } catch (ForceableProblem e) {
             if (isPodStuck(pod) || restartContext.backOff.done() || e.forceNow) {
-                if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
-                    log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                } else {
-                    log.warn("{}: Pod {} can't be safely force-rolled; original error: ", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    throw e;
+                acquireRestartSlot(podId);
+                try {
+                    if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
+                        log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    } else {
+                        log.warn("{}: Pod {} can't be safely force-rolled; original error: ", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        throw e;
+                    }
+                } finally {
+                    releaseRestartSlot(podId);
                 }
             } else {
                 throw e;
@@ -392,6 +425,77 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Blocks until the given pod can be restarted alongside the pods which are already being restarted.
+     * The pods holding a slot release it once their restart completes or fails, but the wait is still bounded
+     * by the operation timeout in case a slot is never released.
+     * This is a no-op when pods are rolled one at a time.
+     * @param podId The id of the pod to restart.
+     * @throws InterruptedException Interrupted while waiting.
+     * @throws TimeoutException The pod could not get a slot within the operation timeout.
+     */
+    private void acquireRestartSlot(int podId) throws InterruptedException, TimeoutException {
+        if (maxParallelRestarts <= 1) {
+            return;
+        }
+        Set<Integer> peers = replicaPeers(podId);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(operationTimeoutMs);
+        synchronized (restartingPods) {
+            while (!canRestartAlongsideOthers(peers)) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    throw new TimeoutException("Timed out waiting for pods " + restartingPods.keySet() + " to be restarted before restarting pod " + podName(podId));
+                }
+                log.debug("{}: Pod {} is waiting for pods {} to be restarted", reconciliation, podId, restartingPods.keySet());
+                restartingPods.wait(remainingMs);
+            }
+            restartingPods.put(podId, peers);
+        }
+    }
+
+    private void releaseRestartSlot(int podId) {
+        if (maxParallelRestarts <= 1) {
+            return;
+        }
+        synchronized (restartingPods) {
+            restartingPods.remove(podId);
+            restartingPods.notifyAll();
+        }
+    }
+
+    /**
+     * A pod can be restarted alongside the pods being restarted when it shares no partition with any of them.
+     * When the partitions of any of these pods are not known, the pod is restarted on its own.
+     */
+    private boolean canRestartAlongsideOthers(Set<Integer> peers) {
+        if (restartingPods.isEmpty()) {
+            return true;
+        } else if (restartingPods.size() >= maxParallelRestarts
+                || peers == null
+                || restartingPods.containsValue(null)) {
+            return false;
+        } else {
+            return Collections.disjoint(restartingPods.keySet(), peers);
+        }
+    }
+
+    /**
+     * @return The ids of the brokers hosting replicas of the partitions of the given broker,
+     * or null if they could not be determined.
+     */
+    private Set<Integer> replicaPeers(int podId) throws InterruptedException {
+        if (!initAdminClient()) {
+            return null;
+        }
+        try {
+            return await(kafkaAvailability().replicaPeers(podId), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                t -> new ForceableProblem("An error while trying to determine the partitions of pod " + podName(podId), t));
+        } catch (ForceableProblem e) {
+            log.debug("{}: Pod {} will be restarted on its own", reconciliation, podId, e);
+            return null;
+        }
+    }
+
     private boolean podWaitingBecauseOfAnyReasons(Pod pod, Set<String> reasons) {
         if (pod != null && pod.getStatus() != null) {
             Optional<ContainerStatus> kafkaContainerStatus = pod.getStatus().getContainerStatuses().stream()
@@ -601,10 +705,23 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * @return The KafkaAvailability shared by all the brokers of this rolling restart,
+     * so that the topic descriptions and configs are fetched only once.
+     */
+    private synchronized KafkaAvailability kafkaAvailability() {
+        if (allClient == null) {
+            return availability(null);
+        } else if (kafkaAvailability == null) {
+            kafkaAvailability = availability(allClient);
+        }
+        return kafkaAvailability;
+    }
+
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(kafkaAvailability().canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
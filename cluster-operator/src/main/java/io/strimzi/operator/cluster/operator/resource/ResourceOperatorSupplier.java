@@ -4,6 +4,13 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaBridgeList;
@@ -54,6 +61,8 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Vertx;
 
+import java.util.Set;
+
 // Deprecation is suppressed because of KafkaConnectS2I
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -211,4 +220,22 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables the informer-backed cache for the reads of the resources which the operators reconcile frequently
+     * but which are rarely modified by anything else.
+     * StatefulSets and Pods are deliberately not cached, because the rolling update logic needs their latest state.
+     *
+     * @param namespaces The namespaces watched by the operator.
+     * @param resyncIntervalMs The resync interval of the cache.
+     */
+    public void enableResourceCaches(Set<String> namespaces, long resyncIntervalMs) {
+        serviceOperations.enableCache(Service.class, namespaces, resyncIntervalMs, metricsProvider);
+        configMapOperations.enableCache(ConfigMap.class, namespaces, resyncIntervalMs, metricsProvider);
+        secretOperations.enableCache(Secret.class, namespaces, resyncIntervalMs, metricsProvider);
+        pvcOperations.enableCache(PersistentVolumeClaim.class, namespaces, resyncIntervalMs, metricsProvider);
+        serviceAccountOperations.enableCache(ServiceAccount.class, namespaces, resyncIntervalMs, metricsProvider);
+        networkPolicyOperator.enableCache(NetworkPolicy.class, namespaces, resyncIntervalMs, metricsProvider);
+        podDisruptionBudgetOperator.enableCache(PodDisruptionBudget.class, namespaces, resyncIntervalMs, metricsProvider);
+    }
 }
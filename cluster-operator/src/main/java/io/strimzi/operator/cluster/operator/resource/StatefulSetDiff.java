@@ -7,10 +7,10 @@ package io.strimzi.operator.cluster.operator.resource;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.operator.resource.AbstractResourceDiff;
+import io.strimzi.operator.common.operator.resource.StructuralDiff;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -25,34 +25,35 @@ public class StatefulSetDiff extends AbstractResourceDiff {
 
     private static final String SHORTENED_STRIMZI_DOMAIN = Annotations.STRIMZI_DOMAIN.substring(0, Annotations.STRIMZI_DOMAIN.length() - 1);
 
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-        "^(/metadata/managedFields"
-        + "|/spec/revisionHistoryLimit"
-        + "|/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation"
-        + "|/spec/template/spec/initContainers/[0-9]+/resources"
-        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePath"
-        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePolicy"
-        + "|/spec/template/spec/initContainers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
-        + "|/spec/template/spec/containers/[0-9]+/resources"
-        + "|/spec/template/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/failureThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/periodSeconds"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/successThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/failureThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/periodSeconds"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/successThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePath"
-        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePolicy"
-        + "|/spec/template/spec/dnsPolicy"
-        + "|/spec/template/spec/restartPolicy"
-        + "|/spec/template/spec/securityContext"
-        + "|/spec/template/spec/volumes/[0-9]+/configMap/defaultMode"
-        + "|/spec/template/spec/volumes/[0-9]+/secret/defaultMode"
-        + "|/spec/volumeClaimTemplates/[0-9]+/status"
-        + "|/spec/volumeClaimTemplates/[0-9]+/spec/volumeMode"
-        + "|/spec/volumeClaimTemplates/[0-9]+/spec/dataSource"
-        + "|/spec/template/spec/serviceAccount"
-        + "|/status)$");
+    private static final StructuralDiff DIFF = new StructuralDiff(
+        "/metadata/managedFields/**",
+        "/metadata/annotations/" + StructuralDiff.escape(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH),
+        "/spec/revisionHistoryLimit",
+        "/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation",
+        "/spec/template/spec/initContainers/*/resources",
+        "/spec/template/spec/initContainers/*/terminationMessagePath",
+        "/spec/template/spec/initContainers/*/terminationMessagePolicy",
+        "/spec/template/spec/initContainers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/resources",
+        "/spec/template/spec/containers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/livenessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/livenessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/livenessProbe/successThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/readinessProbe/successThreshold",
+        "/spec/template/spec/containers/*/terminationMessagePath",
+        "/spec/template/spec/containers/*/terminationMessagePolicy",
+        "/spec/template/spec/dnsPolicy",
+        "/spec/template/spec/restartPolicy",
+        "/spec/template/spec/securityContext",
+        "/spec/template/spec/volumes/*/configMap/defaultMode",
+        "/spec/template/spec/volumes/*/secret/defaultMode",
+        "/spec/volumeClaimTemplates/*/status",
+        "/spec/volumeClaimTemplates/*/spec/volumeMode",
+        "/spec/volumeClaimTemplates/*/spec/dataSource",
+        "/spec/template/spec/serviceAccount",
+        "/status/**");
 
     private static final Pattern RESOURCE_PATH = Pattern.compile("^/spec/template/spec/(?:initContainers|containers)/[0-9]+/resources/(?:limits|requests)/(memory|cpu)$");
     private static final Pattern VOLUME_SIZE = Pattern.compile("^/spec/volumeClaimTemplates/[0-9]+/spec/resources/.*$");
@@ -62,92 +63,69 @@ public class StatefulSetDiff extends AbstractResourceDiff {
                 || pathValue.startsWith(path + "/");
     }
 
-    private final boolean changesVolumeClaimTemplate;
-    private final boolean changesVolumeSize;
-    private final boolean isEmpty;
-    private final boolean changesSpecTemplate;
-    private final boolean changesLabels;
-    private final boolean changesSpecReplicas;
+    private final ObjectMeta metadata;
+    private boolean changesVolumeClaimTemplate;
+    private boolean changesVolumeSize;
+    private boolean isEmpty = true;
+    private boolean changesSpecTemplate;
+    private boolean changesLabels;
+    private boolean changesSpecReplicas;
 
     public StatefulSetDiff(StatefulSet current, StatefulSet desired) {
+        this.metadata = current.getMetadata();
         JsonNode source = patchMapper().valueToTree(current);
         JsonNode target = patchMapper().valueToTree(desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-        int num = 0;
-        boolean changesVolumeClaimTemplate = false;
-        boolean changesVolumeSize = false;
-        boolean changesSpecTemplate = false;
-        boolean changesLabels = false;
-        boolean changesSpecReplicas = false;
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                ObjectMeta md = current.getMetadata();
-                log.debug("StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
-                continue;
-            }
-            Matcher resourceMatchers = RESOURCE_PATH.matcher(pathValue);
-            if (resourceMatchers.matches()) {
-                if ("replace".equals(d.path("op").asText())) {
-                    boolean same = compareMemoryAndCpuResources(source, target, pathValue, resourceMatchers);
-                    if (same) {
-                        ObjectMeta md = current.getMetadata();
-                        log.debug("StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
-                        continue;
-                    }
+        DIFF.walk(source, target, this::onDifference);
+    }
+
+    private boolean onDifference(String pathValue, JsonNode current, JsonNode desired) {
+        Matcher resourceMatchers = RESOURCE_PATH.matcher(pathValue);
+        if (resourceMatchers.matches()) {
+            if (!current.isMissingNode() && !desired.isMissingNode()) {
+                boolean same = compareMemoryAndCpuResources(current, desired, resourceMatchers);
+                if (same) {
+                    log.debug("StatefulSet {}/{} ignoring diff {}", metadata.getNamespace(), metadata.getName(), pathValue);
+                    return true;
                 }
             }
-            if (log.isDebugEnabled()) {
-                ObjectMeta md = current.getMetadata();
-                log.debug("StatefulSet {}/{} differs: {}", md.getNamespace(), md.getName(), d);
-                log.debug("Current StatefulSet path {} has value {}", pathValue, lookupPath(source, pathValue));
-                log.debug("Desired StatefulSet path {} has value {}", pathValue, lookupPath(target, pathValue));
-            }
-
-            num++;
-            // Any volume claim template changes apart from size change should trigger rolling update
-            // Size changes should not trigger rolling update. Therefore we need to separate these two in the diff.
-            changesVolumeClaimTemplate |= equalsOrPrefix("/spec/volumeClaimTemplates", pathValue) && !VOLUME_SIZE.matcher(pathValue).matches();
-            changesVolumeSize |= isVolumeSizeChanged(pathValue, source, target);
-            // Change changes to /spec/template/spec, except to imagePullPolicy, which gets changed
-            // by k8s
-            changesSpecTemplate |= equalsOrPrefix("/spec/template", pathValue);
-            changesLabels |= equalsOrPrefix("/metadata/labels", pathValue);
-            changesSpecReplicas |= equalsOrPrefix("/spec/replicas", pathValue);
         }
-        this.isEmpty = num == 0;
-        this.changesLabels = changesLabels;
-        this.changesSpecReplicas = changesSpecReplicas;
-        this.changesSpecTemplate = changesSpecTemplate;
-        this.changesVolumeClaimTemplate = changesVolumeClaimTemplate;
-        this.changesVolumeSize = changesVolumeSize;
+        if (log.isDebugEnabled()) {
+            log.debug("StatefulSet {}/{} differs: {}", metadata.getNamespace(), metadata.getName(), pathValue);
+            log.debug("Current StatefulSet path {} has value {}", pathValue, current);
+            log.debug("Desired StatefulSet path {} has value {}", pathValue, desired);
+        }
+
+        isEmpty = false;
+        // Any volume claim template changes apart from size change should trigger rolling update
+        // Size changes should not trigger rolling update. Therefore we need to separate these two in the diff.
+        changesVolumeClaimTemplate |= equalsOrPrefix("/spec/volumeClaimTemplates", pathValue) && !VOLUME_SIZE.matcher(pathValue).matches();
+        changesVolumeSize |= isVolumeSizeChanged(pathValue, current, desired);
+        // Change changes to /spec/template/spec, except to imagePullPolicy, which gets changed
+        // by k8s
+        changesSpecTemplate |= equalsOrPrefix("/spec/template", pathValue);
+        changesLabels |= equalsOrPrefix("/metadata/labels", pathValue);
+        changesSpecReplicas |= equalsOrPrefix("/spec/replicas", pathValue);
+        return true;
     }
 
-    private boolean isVolumeSizeChanged(String pathValue, JsonNode source, JsonNode target) {
+    private boolean isVolumeSizeChanged(String pathValue, JsonNode current, JsonNode desired) {
         if (VOLUME_SIZE.matcher(pathValue).matches()) {
-            JsonNode current = lookupPath(source, pathValue);
-            JsonNode desired = lookupPath(target, pathValue);
             return StorageUtils.parseMemory(current.asText()) != StorageUtils.parseMemory(desired.asText());
         }
         return false;
     }
 
-    boolean compareMemoryAndCpuResources(JsonNode source, JsonNode target, String pathValue, Matcher resourceMatchers) {
-        JsonNode s = lookupPath(source, pathValue);
-        JsonNode t = lookupPath(target, pathValue);
+    boolean compareMemoryAndCpuResources(JsonNode s, JsonNode t, Matcher resourceMatchers) {
         String group = resourceMatchers.group(1);
-        if (!s.isMissingNode()
-            && !t.isMissingNode()) {
-            if ("cpu".equals(group)) {
-                // Ignore single millicpu differences as they could be due to rounding error
-                if (Math.abs(Quantities.parseCpuAsMilliCpus(s.asText()) - Quantities.parseCpuAsMilliCpus(t.asText())) < 1) {
-                    return true;
-                }
-            } else {
-                // Ignore single byte differences as they could be due to rounding error
-                if (Math.abs(Quantities.parseMemory(s.asText()) - Quantities.parseMemory(t.asText())) < 1) {
-                    return true;
-                }
+        if ("cpu".equals(group)) {
+            // Ignore single millicpu differences as they could be due to rounding error
+            if (Math.abs(Quantities.parseCpuAsMilliCpus(s.asText()) - Quantities.parseCpuAsMilliCpus(t.asText())) < 1) {
+                return true;
+            }
+        } else {
+            // Ignore single byte differences as they could be due to rounding error
+            if (Math.abs(Quantities.parseMemory(s.asText()) - Quantities.parseMemory(t.asText())) < 1) {
+                return true;
             }
         }
         return false;
@@ -19,6 +19,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -32,6 +33,9 @@ import java.security.cert.CertificateFactory;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,6 +56,24 @@ public class ZookeeperLeaderFinder {
     private final Vertx vertx;
     final SecretOperator secretOperator;
     private final Supplier<BackOff> backOffSupplier;
+    private final Map<String, ClusterClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, String> lastLeaders = new ConcurrentHashMap<>();
+
+    /**
+     * The client used for connecting to the Zookeeper nodes of one cluster, together with the Secret data it was
+     * created from
+     */
+    private static class ClusterClient {
+        private final Map<String, String> coKeyData;
+        private final Map<String, String> clusterCaCertData;
+        private final NetClient client;
+
+        ClusterClient(Map<String, String> coKeyData, Map<String, String> clusterCaCertData, NetClient client) {
+            this.coKeyData = coKeyData;
+            this.clusterCaCertData = clusterCaCertData;
+            this.client = client;
+        }
+    }
 
     public ZookeeperLeaderFinder(Vertx vertx, SecretOperator secretOperator, Supplier<BackOff> backOffSupplier) {
         this.vertx = vertx;
@@ -131,6 +153,45 @@ public class ZookeeperLeaderFinder {
                 .setKeyValue(Buffer.buffer(coCertKey.key()));
     }
 
+    /**
+     * Returns the client used for connecting to the Zookeeper nodes of the given cluster. The client is reused by
+     * subsequent calls for the same cluster as long as the Secrets with the certificates do not change. Reusing the
+     * client allows TLS sessions to be resumed instead of doing a full handshake for every connection.
+     */
+    private synchronized NetClient netClient(String clusterKey, Secret coKeySecret, Secret clusterCaCertificateSecret) {
+        ClusterClient existing = clients.get(clusterKey);
+        if (existing != null
+                && Objects.equals(existing.coKeyData, coKeySecret.getData())
+                && Objects.equals(existing.clusterCaCertData, clusterCaCertificateSecret.getData())) {
+            return existing.client;
+        }
+
+        NetClient client = vertx.createNetClient(clientOptions(coKeySecret, clusterCaCertificateSecret));
+        if (existing != null) {
+            log.debug("Certificates of cluster {} changed; replacing the Zookeeper client", clusterKey);
+            existing.client.close();
+        }
+        clients.put(clusterKey, new ClusterClient(coKeySecret.getData(), clusterCaCertificateSecret.getData(), client));
+        return client;
+    }
+
+    /**
+     * Closes the client used for connecting to the Zookeeper nodes of the given cluster and forgets its last known
+     * leader. It should be called when the cluster is deleted.
+     *
+     * @param namespace The namespace of the cluster
+     * @param cluster   The name of the cluster
+     */
+    public synchronized void removeCluster(String namespace, String cluster) {
+        String clusterKey = namespace + "/" + cluster;
+        ClusterClient existing = clients.remove(clusterKey);
+        if (existing != null) {
+            log.debug("Cluster {} was deleted; closing the Zookeeper client", clusterKey);
+            existing.client.close();
+        }
+        lastLeaders.remove(clusterKey);
+    }
+
     /**
      * Returns a Future which completes with the the id of the Zookeeper leader.
      * An exponential backoff is used if no ZK node is leader on the attempt to find it.
@@ -147,22 +208,23 @@ public class ZookeeperLeaderFinder {
                 return Future.failedFuture(Util.missingSecretException(namespace, clusterCaSecretName));
             }
             try {
-                NetClientOptions netClientOptions = clientOptions(coKeySecret, clusterCaCertificateSecret);
-                return zookeeperLeader(cluster, namespace, pods, netClientOptions);
+                String clusterKey = namespace + "/" + cluster;
+                NetClient netClient = netClient(clusterKey, coKeySecret, clusterCaCertificateSecret);
+                return zookeeperLeader(cluster, namespace, clusterKey, pods, netClient);
             } catch (Throwable e) {
                 return Future.failedFuture(e);
             }
         });
 
     }
-    private Future<Integer> zookeeperLeader(String cluster, String namespace, List<Pod> pods,
-                                            NetClientOptions netClientOptions) {
+    private Future<Integer> zookeeperLeader(String cluster, String namespace, String clusterKey, List<Pod> pods,
+                                            NetClient netClient) {
         Promise<Integer> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(clusterKey, pods, netClient).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (leader.result() != UNKNOWN_LEADER) {
                             result.complete(leader.result());
@@ -204,90 +266,138 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Pod, NetClientOptions)}.
+     * Find the leader by testing the pods in the given list using {@link #isLeader(Pod, NetClient)}.
+     * The pod which was the leader the last time is tested first. When it is not the leader anymore (or when no leader
+     * is known), all the other pods are tested concurrently and the returned Future completes as soon as one of them
+     * reports that it is the leader.
      */
-    private Future<Integer> zookeeperLeader(List<Pod> pods, NetClientOptions netClientOptions) {
+    private Future<Integer> zookeeperLeader(String clusterKey, List<Pod> pods, NetClient netClient) {
         try {
-            Future<Integer> f = Future.succeededFuture(UNKNOWN_LEADER);
+            String lastLeaderName = lastLeaders.get(clusterKey);
+            int lastLeader = UNKNOWN_LEADER;
             for (int i = 0; i < pods.size(); i++) {
-                final int podNum = i;
-                Pod pod = pods.get(i);
-                String podName = pod.getMetadata().getName();
-                f = f.compose(leader -> {
-                    if (leader == UNKNOWN_LEADER) {
-                        log.debug("Checker whether {} is leader", podName);
-                        return isLeader(pod, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                log.info("Pod {} is leader", podName);
-                                return podNum;
-                            } else {
-                                log.info("Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
-                    } else {
-                        return Future.succeededFuture(leader);
-                    }
-                });
+                if (pods.get(i).getMetadata().getName().equals(lastLeaderName)) {
+                    lastLeader = i;
+                    break;
+                }
+            }
+
+            Future<Integer> f;
+            if (lastLeader != UNKNOWN_LEADER) {
+                int podNum = lastLeader;
+                log.debug("Checking whether the previous leader {} is still leader", lastLeaderName);
+                f = isLeader(pods.get(podNum), netClient).map(isLeader -> isLeader ? podNum : UNKNOWN_LEADER);
+            } else {
+                f = Future.succeededFuture(UNKNOWN_LEADER);
             }
-            return f;
+
+            int skip = lastLeader;
+            return f.compose(leader -> leader != UNKNOWN_LEADER ? Future.succeededFuture(leader) : anyLeader(pods, skip, netClient))
+                    .map(leader -> {
+                        if (leader != UNKNOWN_LEADER) {
+                            log.info("Pod {} is leader", pods.get(leader).getMetadata().getName());
+                            lastLeaders.put(clusterKey, pods.get(leader).getMetadata().getName());
+                        }
+                        return leader;
+                    });
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
     }
 
+    /**
+     * Concurrently tests all the pods in the given list, except for the pod with the index {@code skip}. The returned
+     * Future completes with the index of the first pod which reports that it is the leader, or with
+     * {@link #UNKNOWN_LEADER} once all the pods reported that they are not the leader.
+     */
+    private Future<Integer> anyLeader(List<Pod> pods, int skip, NetClient netClient) {
+        Promise<Integer> result = Promise.promise();
+        int toCheck = skip == UNKNOWN_LEADER ? pods.size() : pods.size() - 1;
+        AtomicInteger remaining = new AtomicInteger(toCheck);
+        if (toCheck == 0) {
+            result.complete(UNKNOWN_LEADER);
+        }
+
+        for (int i = 0; i < pods.size(); i++) {
+            if (i == skip) {
+                continue;
+            }
+            final int podNum = i;
+            String podName = pods.get(i).getMetadata().getName();
+            Future<Boolean> isLeaderFuture;
+            try {
+                log.debug("Checking whether {} is leader", podName);
+                isLeaderFuture = isLeader(pods.get(i), netClient);
+            } catch (Throwable t) {
+                isLeaderFuture = Future.failedFuture(t);
+            }
+            isLeaderFuture.onComplete(isLeader -> {
+                if (isLeader.succeeded() && isLeader.result() != null && isLeader.result()) {
+                    result.tryComplete(podNum);
+                } else {
+                    if (isLeader.failed()) {
+                        log.debug("Error checking whether {} is leader", podName, isLeader.cause());
+                    } else {
+                        log.info("Pod {} is not a leader", podName);
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        result.tryComplete(UNKNOWN_LEADER);
+                    }
+                }
+            });
+        }
+        return result.future();
+    }
+
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
-    protected Future<Boolean> isLeader(Pod pod, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(pod);
         int port = port(pod);
         log.debug("Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
-            .connect(port, host, ar -> {
-                if (ar.failed()) {
-                    log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
-                    promise.fail(ar.cause());
-                } else {
-                    log.debug("ZK {}:{}: connected", host, port);
-                    NetSocket socket = ar.result();
-                    socket.exceptionHandler(ex -> {
-                        if (!promise.tryFail(ex)) {
-                            log.debug("ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
-                                    host, port, pod.getMetadata().getName(), ex);
-                        }
-                    });
-                    StringBuilder sb = new StringBuilder();
-                    // We could use socket idle timeout, but this times out even if the server just responds
-                    // very slowly
-                    long timerId = vertx.setTimer(10_000, tid -> {
-                        log.debug("ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
-                                host, port, socket.remoteAddress());
-                        socket.close();
-                    });
-                    socket.closeHandler(v -> {
-                        vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!promise.tryComplete(isLeader)) {
-                            log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
-                                    host, port);
-                        }
-                    });
-                    log.debug("ZK {}:{}: upgrading to TLS", host, port);
-                    socket.handler(buffer -> {
-                        log.trace("buffer: {}", buffer);
-                        sb.append(buffer.toString());
-                    });
-                    log.debug("ZK {}:{}: sending stat", host, port);
-                    socket.write("stat");
-                }
-
-            });
+        netClient.connect(port, host, ar -> {
+            if (ar.failed()) {
+                log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
+                promise.fail(ar.cause());
+            } else {
+                log.debug("ZK {}:{}: connected", host, port);
+                NetSocket socket = ar.result();
+                socket.exceptionHandler(ex -> {
+                    if (!promise.tryFail(ex)) {
+                        log.debug("ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
+                                host, port, pod.getMetadata().getName(), ex);
+                    }
+                });
+                StringBuilder sb = new StringBuilder();
+                // We could use socket idle timeout, but this times out even if the server just responds
+                // very slowly
+                long timerId = vertx.setTimer(10_000, tid -> {
+                    log.debug("ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
+                            host, port, socket.remoteAddress());
+                    socket.close();
+                });
+                socket.closeHandler(v -> {
+                    vertx.cancelTimer(timerId);
+                    Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
+                    boolean isLeader = matcher.find();
+                    log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
+                    if (!promise.tryComplete(isLeader)) {
+                        log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
+                                host, port);
+                    }
+                });
+                log.debug("ZK {}:{}: upgrading to TLS", host, port);
+                socket.handler(buffer -> {
+                    log.trace("buffer: {}", buffer);
+                    sb.append(buffer.toString());
+                });
+                log.debug("ZK {}:{}: sending stat", host, port);
+                socket.write("stat");
+            }
+        });
         return promise.future().recover(error -> {
             log.debug("ZK {}:{}: Error trying to determine whether leader ({}) => not leader", host, port, error);
             return Future.succeededFuture(Boolean.FALSE);
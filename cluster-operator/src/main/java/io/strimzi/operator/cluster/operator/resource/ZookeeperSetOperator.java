@@ -42,6 +42,16 @@ public class ZookeeperSetOperator extends StatefulSetOperator {
         this.leaderFinder = leaderFinder;
     }
 
+    /**
+     * Releases the resources kept for finding the leader of the given Zookeeper cluster once the cluster is deleted.
+     *
+     * @param namespace The namespace of the cluster
+     * @param cluster   The name of the cluster
+     */
+    public void removeCluster(String namespace, String cluster) {
+        leaderFinder.removeCluster(namespace, cluster);
+    }
+
     @Override
     protected boolean shouldIncrementGeneration(StatefulSetDiff diff) {
         return !diff.isEmpty() && needsRollingUpdate(diff);
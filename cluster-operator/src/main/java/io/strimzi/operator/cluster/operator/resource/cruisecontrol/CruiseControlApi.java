@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Cruise Control REST API interface definition
@@ -50,6 +55,18 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the state of several tasks from the Cruise Control server using a single request.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIDs The unique IDs of the tasks whose state should be retrieved.
+     * @return A future for the state of the tasks, by task ID. Tasks which are not known to the Cruise Control server
+     *         are not included. The state of each task is parsed separately, so a task whose state cannot be parsed
+     *         has a failed result without affecting the other tasks.
+     */
+    Future<Map<String, AsyncResult<JsonObject>>> getUserTasksStatus(String host, int port, Set<String> userTaskIDs);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
@@ -60,5 +77,10 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> stopExecution(String host, int port);
 
+    /**
+     *  Close the client and the connections it keeps open to the Cruise Control servers.
+     */
+    void close();
+
 }
 
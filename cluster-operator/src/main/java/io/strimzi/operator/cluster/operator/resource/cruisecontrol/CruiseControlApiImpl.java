@@ -4,34 +4,115 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.model.KafkaRebalance;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.net.ConnectException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Cruise Control REST API client. The client keeps a pool of keep-alive connections to each Cruise Control instance
+ * and should be shared by all the reconciliations. It has to be closed when it is not used anymore.
+ */
 public class CruiseControlApiImpl implements CruiseControlApi {
 
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
     private static final String SUMMARY_KEY = "summary";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
+
+    /**
+     * Default maximum number of connections kept open to a single Cruise Control instance
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 5;
+
+    /**
+     * Time in seconds after which idle connections are closed. It is lower than the idle timeout of the Cruise Control
+     * REST server, so that the operator does not try to reuse connections which the server is just closing.
+     */
+    private static final int CONNECTION_IDLE_TIMEOUT_SECONDS = 20;
+
+    private final HttpClient httpClient;
+    private final long requestTimeoutMs;
 
-    private final Vertx vertx;
-    private final long idleTimeout;
+    private final Timer requestsTimer;
+    private final Counter requestsCounter;
+    private final Counter connectionsCounter;
+    private final AtomicInteger openConnections;
 
     public CruiseControlApiImpl(Vertx vertx) {
         this(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS);
     }
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout) {
-        this.vertx = vertx;
-        this.idleTimeout = idleTimeout;
+        this(vertx, idleTimeout == HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS ? 0 : idleTimeout * 1_000L, DEFAULT_MAX_CONNECTIONS, null);
+    }
+
+    /**
+     * Creates the client.
+     *
+     * @param vertx             Vert.x instance
+     * @param requestTimeoutMs  Timeout in milliseconds for receiving the response to a request, or 0 to not time out
+     * @param maxConnections    Maximum number of connections kept open to a single Cruise Control instance. Requests
+     *                          which cannot get a connection wait until one of the running requests completes.
+     * @param metrics           Metrics provider used to publish the request and connection metrics, or null
+     */
+    public CruiseControlApiImpl(Vertx vertx, long requestTimeoutMs, int maxConnections, MetricsProvider metrics) {
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.httpClient = vertx.createHttpClient(new HttpClientOptions()
+                .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)
+                .setKeepAlive(true)
+                .setMaxPoolSize(maxConnections)
+                .setIdleTimeout(CONNECTION_IDLE_TIMEOUT_SECONDS));
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", KafkaRebalance.RESOURCE_KIND));
+
+            requestsTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.requests.duration",
+                    "The time the requests to the Cruise Control REST API take to complete",
+                    metricTags);
+            requestsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.requests",
+                    "Number of requests sent to the Cruise Control REST API",
+                    metricTags);
+            connectionsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.connections",
+                    "Number of connections opened to the Cruise Control REST API",
+                    metricTags);
+            openConnections = metrics.gauge(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.connections.open",
+                    "Number of connections to the Cruise Control REST API which are currently open",
+                    metricTags);
+
+            httpClient.connectionHandler(connection -> {
+                connectionsCounter.increment();
+                openConnections.incrementAndGet();
+                connection.closeHandler(ignored -> openConnections.decrementAndGet());
+            });
+        } else {
+            requestsTimer = null;
+            requestsCounter = null;
+            connectionsCounter = null;
+            openConnections = null;
+        }
     }
 
     @Override
@@ -43,14 +124,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> getCruiseControlState(String host, int port, boolean verbose, String userTaskId) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.STATE)
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -74,17 +154,11 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 })
                 .exceptionHandler(t -> httpExceptionHandler(result, t));
 
-        if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
-            request.setTimeout(idleTimeout * 1000);
-        }
-
         if (userTaskId != null) {
             request.putHeader(CC_REST_API_USER_ID_HEADER, userTaskId);
         }
 
-        request.end();
-
-        return result.future();
+        return send(request, result);
     }
 
     @Override
@@ -97,14 +171,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
 
         Promise<CruiseControlRebalanceResponse> result = Promise.promise();
-        HttpClientOptions httpOptions = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.REBALANCE)
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addRebalanceParameters(rbOptions)
                 .build();
 
-        HttpClientRequest request = vertx.createHttpClient(httpOptions)
+        HttpClientRequest request = httpClient
                 .post(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -159,17 +232,11 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 })
                 .exceptionHandler(t -> httpExceptionHandler(result, t));
 
-        if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
-            request.setTimeout(idleTimeout * 1000);
-        }
-
         if (userTaskId != null) {
             request.putHeader(CC_REST_API_USER_ID_HEADER, userTaskId);
         }
 
-        request.end();
-
-        return result.future();
+        return send(request, result);
     }
 
     @Override
@@ -177,7 +244,6 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .addParameter(CruiseControlParameters.JSON, "true")
@@ -189,7 +255,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -203,29 +269,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                         "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                 json.getString(CC_REST_API_ERROR_KEY)));
                             }
-                            JsonObject statusJson = new JsonObject();
-                            String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                            statusJson.put(STATUS_KEY, taskStatusStr);
-                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                            switch (taskStatus) {
-                                case ACTIVE:
-                                    // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                    break;
-                                case IN_EXECUTION:
-                                    // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                    // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                case COMPLETED:
-                                    // Completed tasks will have the original rebalance proposal summary in their original response
-                                    statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
-                                    break;
-                                case COMPLETED_WITH_ERROR:
-                                    // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                    statusJson.put(SUMMARY_KEY, jsonUserTask.getString("originalResponse"));
-                                    break;
-                                default:
-                                    throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                            }
-                            result.complete(new CruiseControlResponse(userTaskID, statusJson));
+                            result.complete(new CruiseControlResponse(userTaskID, userTaskStatus(jsonUserTask)));
                         });
                     } else if (response.statusCode() == 500) {
                         response.bodyHandler(buffer -> {
@@ -247,13 +291,104 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 })
                 .exceptionHandler(t -> httpExceptionHandler(result, t));
 
-        if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
-            request.setTimeout(idleTimeout * 1000);
-        }
+        return send(request, result);
+    }
 
-        request.end();
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, AsyncResult<JsonObject>>> getUserTasksStatus(String host, int port, Set<String> userTaskIds) {
+
+        Promise<Map<String, AsyncResult<JsonObject>>> result = Promise.promise();
+
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                        .addParameter(CruiseControlParameters.JSON, "true")
+                        .addParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                        .addParameter(CruiseControlParameters.USER_TASK_IDS, String.join(",", userTaskIds))
+                        .build();
 
-        return result.future();
+        HttpClientRequest request = httpClient
+                .get(port, host, path, response -> {
+                    response.exceptionHandler(result::fail);
+                    if (response.statusCode() == 200 || response.statusCode() == 201) {
+                        response.bodyHandler(buffer -> {
+                            try {
+                                JsonArray jsonUserTasks = buffer.toJsonObject().getJsonArray("userTasks");
+                                Map<String, AsyncResult<JsonObject>> statuses = new HashMap<>(jsonUserTasks.size());
+                                for (int i = 0; i < jsonUserTasks.size(); i++) {
+                                    JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
+                                    String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+                                    if (userTaskIds.contains(userTaskId) && !jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                                        // A task which cannot be parsed fails only the result of this task
+                                        try {
+                                            statuses.put(userTaskId, Future.succeededFuture(userTaskStatus(jsonUserTask)));
+                                        } catch (RuntimeException e) {
+                                            statuses.put(userTaskId, Future.failedFuture(new CruiseControlRestException(
+                                                    "Error for request: " + host + ":" + port + path + ". Unable to parse the status of user task "
+                                                            + userTaskId + ": " + e.getMessage())));
+                                        }
+                                    }
+                                }
+                                result.complete(statuses);
+                            } catch (RuntimeException e) {
+                                result.fail(new CruiseControlRestException(
+                                        "Error for request: " + host + ":" + port + path + ". Unable to parse the response: " + e.getMessage()));
+                            }
+                        });
+                    } else if (response.statusCode() == 500) {
+                        response.bodyHandler(buffer -> {
+                            JsonObject json = buffer.toJsonObject();
+                            String errorString;
+                            if (json.containsKey(CC_REST_API_ERROR_KEY)) {
+                                errorString = json.getString(CC_REST_API_ERROR_KEY);
+                            } else {
+                                errorString = json.toString();
+                            }
+                            result.fail(new CruiseControlRestException(
+                                    "Error for request: " + host + ":" + port + path + ". Server returned: " + errorString));
+                        });
+                    } else {
+                        result.fail(new CruiseControlRestException(
+                                "Unexpected status code " + response.statusCode() + " for GET request to " +
+                                host + ":" + port + path));
+                    }
+                })
+                .exceptionHandler(t -> httpExceptionHandler(result, t));
+
+        return send(request, result);
+    }
+
+    /**
+     * Extracts the status of a user task, and the summary of the rebalance if the task has one, from an entry of the
+     * user tasks response.
+     *
+     * @param jsonUserTask  The user task entry
+     *
+     * @return  JSON object with the status and the summary of the task
+     */
+    private static JsonObject userTaskStatus(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(SUMMARY_KEY, jsonUserTask.getString("originalResponse"));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+        return statusJson;
     }
 
     @Override
@@ -261,12 +396,11 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .addParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .post(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -289,13 +423,41 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 })
                 .exceptionHandler(t -> httpExceptionHandler(result, t));
 
-        if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
-            request.setTimeout(idleTimeout * 1000);
+        return send(request, result);
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    /**
+     * Sends the request over one of the pooled connections and records the request metrics once the result is known.
+     *
+     * @param request   The request, with all its headers set
+     * @param result    The promise completed by the response handler of the request
+     * @param <T>       The type of the result
+     *
+     * @return  The future for the result
+     */
+    private <T> Future<T> send(HttpClientRequest request, Promise<T> result) {
+        long startTime = System.nanoTime();
+
+        if (requestTimeoutMs > 0) {
+            request.setTimeout(requestTimeoutMs);
+        }
+
+        if (requestsCounter != null) {
+            requestsCounter.increment();
         }
 
         request.end();
 
-        return result.future();
+        return result.future().onComplete(ignored -> {
+            if (requestsTimer != null) {
+                requestsTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        });
     }
 
     private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
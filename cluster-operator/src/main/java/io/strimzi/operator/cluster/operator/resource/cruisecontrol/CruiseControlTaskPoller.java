@@ -0,0 +1,172 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Polls the status of the user tasks of one Cruise Control instance on behalf of all the rebalances which are waiting
+ * for one of its tasks. Instead of one timer and one request per rebalance, a single periodic timer is running while
+ * there is at least one subscriber, and each tick asks the {@code user_tasks} endpoint for the status of all the
+ * subscribed tasks at once.
+ *
+ * On each tick, every subscriber is called with the id of its subscription and either the status of its task (as returned by
+ * {@link CruiseControlApi#getUserTasksStatus(String, int, Set)}), {@code null} if Cruise Control does not know the
+ * task, or the failure of the request. When only the status of its own task could not be parsed, the subscriber gets
+ * that failure while the other subscribers get their statuses.
+ */
+public class CruiseControlTaskPoller {
+    private static final Logger log = LogManager.getLogger(CruiseControlTaskPoller.class.getName());
+
+    private static class Subscription {
+        private final String userTaskId;
+        private final BiConsumer<Long, AsyncResult<JsonObject>> handler;
+
+        Subscription(String userTaskId, BiConsumer<Long, AsyncResult<JsonObject>> handler) {
+            this.userTaskId = userTaskId;
+            this.handler = handler;
+        }
+    }
+
+    private final Vertx vertx;
+    private final CruiseControlApi apiClient;
+    private final String host;
+    private final int port;
+    private final long intervalMs;
+
+    private final Map<Long, Subscription> subscriptions = new HashMap<>();
+    private long nextSubscriptionId;
+    private long timerId = -1;
+    private boolean polling;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance used for the timer
+     * @param apiClient     Cruise Control REST API client
+     * @param host          The address of the Cruise Control server
+     * @param port          The port the Cruise Control server is listening on
+     * @param intervalMs    Interval between two polls in milliseconds
+     */
+    public CruiseControlTaskPoller(Vertx vertx, CruiseControlApi apiClient, String host, int port, long intervalMs) {
+        this.vertx = vertx;
+        this.apiClient = apiClient;
+        this.host = host;
+        this.port = port;
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Subscribes to the status of a user task. The handler is called on every tick until the subscription is
+     * cancelled.
+     *
+     * @param userTaskId    The id of the user task, or null when the subscriber only needs the ticks
+     * @param handler       Handler called with the id of the subscription and the status of the task
+     *
+     * @return  The id of the subscription, to be passed to {@link #cancel(long)}
+     */
+    public synchronized long poll(String userTaskId, BiConsumer<Long, AsyncResult<JsonObject>> handler) {
+        long id = nextSubscriptionId++;
+        subscriptions.put(id, new Subscription(userTaskId, handler));
+        if (timerId == -1) {
+            log.debug("Starting the user tasks polling of Cruise Control {}:{}", host, port);
+            timerId = vertx.setPeriodic(intervalMs, t -> tick());
+        }
+        return id;
+    }
+
+    /**
+     * Cancels a subscription. The timer is stopped when there is no subscription left.
+     *
+     * @param id    The id of the subscription
+     *
+     * @return  True if there is no subscription left
+     */
+    public synchronized boolean cancel(long id) {
+        subscriptions.remove(id);
+        if (subscriptions.isEmpty() && timerId != -1) {
+            log.debug("Stopping the user tasks polling of Cruise Control {}:{}", host, port);
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+        return subscriptions.isEmpty();
+    }
+
+    /**
+     * @return  The number of active subscriptions
+     */
+    /*test*/ synchronized int size() {
+        return subscriptions.size();
+    }
+
+    private void tick() {
+        Set<String> userTaskIds = new HashSet<>();
+        synchronized (this) {
+            if (polling) {
+                log.debug("Skipping the user tasks polling of Cruise Control {}:{} as the previous one is still running", host, port);
+                return;
+            }
+            polling = true;
+            for (Subscription subscription : subscriptions.values()) {
+                if (subscription.userTaskId != null) {
+                    userTaskIds.add(subscription.userTaskId);
+                }
+            }
+        }
+
+        Future<Map<String, AsyncResult<JsonObject>>> statuses = userTaskIds.isEmpty()
+                ? Future.succeededFuture(Map.of())
+                : apiClient.getUserTasksStatus(host, port, userTaskIds);
+
+        statuses.onComplete(res -> {
+            Map<Long, Subscription> current;
+            synchronized (this) {
+                polling = false;
+                current = new HashMap<>(subscriptions);
+            }
+
+            if (res.failed()) {
+                log.debug("Getting the status of the user tasks {} of Cruise Control {}:{} failed", userTaskIds, host, port, res.cause());
+            }
+
+            for (Map.Entry<Long, Subscription> entry : current.entrySet()) {
+                Subscription subscription = entry.getValue();
+                // The subscription might have been cancelled by one of the handlers called before
+                if (!isSubscribed(entry.getKey())) {
+                    continue;
+                }
+
+                AsyncResult<JsonObject> status;
+                if (res.failed()) {
+                    status = Future.failedFuture(res.cause());
+                } else {
+                    AsyncResult<JsonObject> taskStatus = subscription.userTaskId != null ? res.result().get(subscription.userTaskId) : null;
+                    status = taskStatus != null ? taskStatus : Future.succeededFuture(null);
+                }
+
+                try {
+                    subscription.handler.accept(entry.getKey(), status);
+                } catch (RuntimeException e) {
+                    log.error("Error handling the status of user task {} of Cruise Control {}:{}", subscription.userTaskId, host, port, e);
+                }
+            }
+        });
+    }
+
+    private synchronized boolean isSubscribed(long id) {
+        return subscriptions.containsKey(id);
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
@@ -325,6 +326,59 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse labels from STRIMZI_CUSTOM_RESOURCE_SELECTOR"));
     }
 
+    @Test
+    public void testMaxParallelBrokerRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxParallelBrokerRestarts(), is(ClusterOperatorConfig.DEFAULT_MAX_PARALLEL_BROKER_RESTARTS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS, "3");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxParallelBrokerRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS, "0");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("STRIMZI_MAX_PARALLEL_BROKER_RESTARTS has to be at least 1"));
+    }
+
+    @Test
+    public void testWatchReconciliationMinInterval() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getWatchReconciliationMinIntervalMs(), is(ClusterOperatorConfig.DEFAULT_WATCH_RECONCILIATION_MIN_INTERVAL_MS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_WATCH_RECONCILIATION_MIN_INTERVAL_MS, "5000");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getWatchReconciliationMinIntervalMs(), is(5000L));
+    }
+
+    @Test
+    public void testCruiseControlClient() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCruiseControlMaxConnections(), is(ClusterOperatorConfig.DEFAULT_CRUISE_CONTROL_MAX_CONNECTIONS));
+        assertThat(config.getCruiseControlRequestTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_CRUISE_CONTROL_REQUEST_TIMEOUT_MS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS, "2");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CRUISE_CONTROL_REQUEST_TIMEOUT_MS, "10000");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCruiseControlMaxConnections(), is(2));
+        assertThat(config.getCruiseControlRequestTimeoutMs(), is(10_000L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS, "0");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("STRIMZI_CRUISE_CONTROL_MAX_CONNECTIONS has to be at least 1"));
+    }
+
+    @Test
+    public void testCertManager() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "java");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "libressl");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("libressl is not a valid STRIMZI_CERT_MANAGER value"));
+    }
+
     @Test
     public void testRbacScopeValueOf() {
         assertThat(ClusterOperatorConfig.RbacScope.valueOf("NAMESPACE"), is(ClusterOperatorConfig.RbacScope.NAMESPACE));
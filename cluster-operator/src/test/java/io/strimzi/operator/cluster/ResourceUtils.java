@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.openshift.api.model.RouteBuilder;
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -120,6 +121,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -729,6 +731,11 @@ public class ResourceUtils {
             public AtomicInteger gauge(String name, String description, Tags tags) {
                 return new AtomicInteger(0);
             }
+
+            @Override
+            public <T> Gauge gauge(String name, String description, Tags tags, T obj, ToDoubleFunction<T> f) {
+                return mock(Gauge.class);
+            }
         };
     }
 
@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.operator.MockCertManager;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,19 +18,38 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(VertxExtension.class)
 public class CaRenewalTest {
+    private static Subject subject(int podIndex) {
+        Subject subject = new Subject();
+        subject.setCommonName("pod" + podIndex);
+        return subject;
+    }
+
+    // The certificates of the pods are generated in parallel, so they are numbered after the pod and not after the
+    // order in which they are generated
+    private static CertAndKey newCertAndKey(Subject subject) {
+        String index = subject.commonName().substring("pod".length());
+
+        return new CertAndKey(
+                ("new-key" + index).getBytes(),
+                ("new-cert" + index).getBytes(),
+                ("new-truststore" + index).getBytes(),
+                ("new-keystore" + index).getBytes(),
+                "new-password" + index
+        );
+    }
+
     @Test
     public void renewalOfStatefulSetCertificatesWithNullSecret() throws IOException {
         Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -43,20 +63,12 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
-
-                return new CertAndKey(
-                        ("new-key" + index).getBytes(),
-                        ("new-cert" + index).getBytes(),
-                        ("new-truststore" + index).getBytes(),
-                        ("new-keystore" + index).getBytes(),
-                        "new-password" + index
-                );
+                return newCertAndKey(subject);
             }
         };
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject();
+        Function<Integer, Subject> subjectFn = CaRenewalTest::subject;
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -85,8 +97,6 @@ public class CaRenewalTest {
     @Test
     public void renewalOfStatefulSetCertificatesWithCaRenewal() throws IOException {
         Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return true;
@@ -100,15 +110,7 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
-
-                return new CertAndKey(
-                        ("new-key" + index).getBytes(),
-                        ("new-cert" + index).getBytes(),
-                        ("new-truststore" + index).getBytes(),
-                        ("new-keystore" + index).getBytes(),
-                        "new-password" + index
-                );
+                return newCertAndKey(subject);
             }
         };
 
@@ -131,7 +133,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject();
+        Function<Integer, Subject> subjectFn = CaRenewalTest::subject;
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -160,8 +162,6 @@ public class CaRenewalTest {
     @Test
     public void renewalOfStatefulSetCertificatesDelayedRenewalInWindow() throws IOException {
         Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -185,15 +185,7 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
-
-                return new CertAndKey(
-                        ("new-key" + index).getBytes(),
-                        ("new-cert" + index).getBytes(),
-                        ("new-truststore" + index).getBytes(),
-                        ("new-keystore" + index).getBytes(),
-                        "new-password" + index
-                );
+                return newCertAndKey(subject);
             }
         };
 
@@ -216,7 +208,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject();
+        Function<Integer, Subject> subjectFn = CaRenewalTest::subject;
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -245,8 +237,6 @@ public class CaRenewalTest {
     @Test
     public void renewalOfStatefulSetCertificatesDelayedRenewalOutsideWindow() throws IOException {
         Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -270,15 +260,7 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
-
-                return new CertAndKey(
-                        ("new-key" + index).getBytes(),
-                        ("new-cert" + index).getBytes(),
-                        ("new-truststore" + index).getBytes(),
-                        ("new-keystore" + index).getBytes(),
-                        "new-password" + index
-                );
+                return newCertAndKey(subject);
             }
         };
 
@@ -301,7 +283,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject();
+        Function<Integer, Subject> subjectFn = CaRenewalTest::subject;
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = false;
 
@@ -326,4 +308,20 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
+
+    @Test
+    public void parsedCertificatesAreCached() {
+        Secret secret = new SecretBuilder()
+                .withNewMetadata()
+                    .withNewName("test-secret")
+                .endMetadata()
+                .addToData(Ca.CA_CRT, MockCertManager.clusterCaCert())
+                .build();
+        Secret copy = new SecretBuilder(secret).build();
+
+        X509Certificate cert = Ca.cert(secret, Ca.CA_CRT);
+
+        assertThat(cert, is(notNullValue()));
+        assertThat(Ca.cert(copy, Ca.CA_CRT), is(sameInstance(cert)));
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class KafkaConfigurationTests {
@@ -91,4 +92,9 @@ public class KafkaConfigurationTests {
     public void validVersion() {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
+
+    @Test
+    public void configModelIsReadOnce() {
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(KafkaConfiguration.readConfigModel(kafkaVersion))));
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
+import io.fabric8.kubernetes.api.model.NodeSelectorTermBuilder;
+import io.fabric8.kubernetes.api.model.TolerationBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.model.ResourceVisitor;
+import io.strimzi.operator.common.model.ValidationVisitor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Compares the validation of a Kafka resource by the {@link ResourceVisitor}, which caches the properties of each
+ * class and skips the Kubernetes API objects, with the previous implementation, which looked up and invoked the getters
+ * with reflection for every visited object. The Kafka resource has listeners, configuration and pod templates with
+ * affinity and tolerations, as is common in production clusters.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.operator.cluster.model.ResourceVisitorBenchmark -Dexec.classpathScope=test}
+ * from the cluster-operator directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResourceVisitorBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResourceVisitorBenchmark.class);
+
+    private static final ResourceVisitor.Property<Method> GETTER = new ResourceVisitor.Property<Method>() {
+        @Override
+        public String propertyName(Method i) {
+            String propertyName = i.getName().substring(i.getName().startsWith("get") ? 3 : 2);
+            return propertyName.substring(0, 1).toLowerCase(Locale.ENGLISH) + propertyName.substring(1);
+        }
+
+        @Override
+        public Class<?> type(Method i) {
+            return i.getReturnType();
+        }
+    };
+
+    private Kafka kafka;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        kafka = new KafkaBuilder(ResourceUtils.createKafka("my-namespace", "my-cluster", 3, "strimzi/kafka:latest", 120, 30,
+                    null, null, Map.of("min.insync.replicas", 2, "default.replication.factor", 3), null, null))
+                .editSpec()
+                    .editKafka()
+                        .withNewRack("topology.kubernetes.io/zone")
+                        .withNewTemplate()
+                            .withNewPod()
+                                .withAffinity(new AffinityBuilder()
+                                        .withNewNodeAffinity()
+                                            .withNewRequiredDuringSchedulingIgnoredDuringExecution()
+                                                .withNodeSelectorTerms(new NodeSelectorTermBuilder()
+                                                        .addNewMatchExpression()
+                                                            .withNewKey("dedicated")
+                                                            .withNewOperator("In")
+                                                            .withValues("kafka")
+                                                        .endMatchExpression()
+                                                        .build())
+                                            .endRequiredDuringSchedulingIgnoredDuringExecution()
+                                        .endNodeAffinity()
+                                        .build())
+                                .withTolerations(singletonList(new TolerationBuilder()
+                                        .withEffect("NoSchedule")
+                                        .withKey("dedicated")
+                                        .withOperator("Equal")
+                                        .withValue("kafka")
+                                        .build()))
+                            .endPod()
+                        .endTemplate()
+                    .endKafka()
+                    .withNewEntityOperator()
+                        .withNewTopicOperator()
+                        .endTopicOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                .endSpec()
+                .build();
+    }
+
+    @Benchmark
+    public Set<Condition> uncached() throws ReflectiveOperationException {
+        Set<Condition> warningConditions = new HashSet<>();
+        visit(new ArrayList<>(), kafka, new ValidationVisitor(kafka, LOGGER, warningConditions));
+        return warningConditions;
+    }
+
+    @Benchmark
+    public Set<Condition> cached() {
+        Set<Condition> warningConditions = new HashSet<>();
+        ResourceVisitor.visit(kafka, new ValidationVisitor(kafka, LOGGER, warningConditions));
+        return warningConditions;
+    }
+
+    // The previous implementation of the ResourceVisitor (the fields are not visited as the API classes have none)
+    private static void visit(List<String> path, Object resource, ResourceVisitor.Visitor visitor) throws ReflectiveOperationException {
+        visitor.visitObject(path, resource);
+        for (Method method : resource.getClass().getMethods()) {
+            String name = method.getName();
+            if (!"getClass".equals(name) && method.getParameterCount() == 0
+                    && (name.length() > 3 && name.startsWith("get")
+                        || name.length() > 2 && name.startsWith("is") && method.getReturnType().equals(boolean.class))) {
+                Object propertyValue = method.invoke(resource);
+                visitor.visitMethodProperty(path, resource, method, GETTER, propertyValue);
+
+                Class<?> returnType = method.getReturnType();
+                if (propertyValue != null) {
+                    path.add(GETTER.propertyName(method));
+                    if (propertyValue instanceof Object[]) {
+                        for (Object element : (Object[]) propertyValue) {
+                            visit(path, element, visitor);
+                        }
+                    } else if (propertyValue instanceof Collection) {
+                        for (Object element : (Collection<?>) propertyValue) {
+                            if (element != null) {
+                                visit(path, element, visitor);
+                            }
+                        }
+                    } else if (!returnType.isPrimitive()
+                            && !returnType.isArray()
+                            && !returnType.isEnum()
+                            && !returnType.getName().startsWith("java.lang.")
+                            && !Map.class.isAssignableFrom(returnType)) {
+                        visit(path, propertyValue, visitor);
+                    }
+                    path.remove(path.size() - 1);
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResourceVisitorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
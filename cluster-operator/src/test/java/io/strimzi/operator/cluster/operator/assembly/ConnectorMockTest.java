@@ -61,10 +61,10 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
@@ -77,7 +77,9 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -129,6 +131,22 @@ public class ConnectorMockTest {
         return connectorState != null ? Future.succeededFuture(statusNode) : Future.failedFuture("No such connector " + connectorName);
     }
 
+    private Map<String, String> connectorConfigMock(String host, String connectorName)   {
+        ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
+        if (connectorState == null) {
+            return null;
+        }
+
+        Map<String, String> map = new HashMap<>();
+        map.put("name", connectorName);
+        for (Map.Entry<String, Object> entry : connectorState.config) {
+            if (entry.getValue() != null) {
+                map.put(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        return map;
+    }
+
     @SuppressWarnings({"checkstyle:MethodLength"})
     @BeforeEach
     public void setup(VertxTestContext testContext) {
@@ -190,13 +208,24 @@ public class ConnectorMockTest {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
 
-        when(api.list(any(), anyInt())).thenAnswer(i -> {
+        when(api.listWithInfoAndStatus(any(), anyInt())).thenAnswer(i -> {
             String host = i.getArgument(0);
             String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
-                    .filter(s -> s.startsWith(matchingKeyPrefix))
-                    .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
+            Map<String, Map<String, Object>> connectors = new HashMap<>();
+            for (String key : runningConnectors.keySet()) {
+                if (key.startsWith(matchingKeyPrefix)) {
+                    String connectorName = key.substring(matchingKeyPrefix.length());
+                    Map<String, Object> info = new HashMap<>();
+                    info.put("name", connectorName);
+                    info.put("config", connectorConfigMock(host, connectorName));
+                    info.put("tasks", emptyList());
+                    Map<String, Object> infoAndStatus = new HashMap<>();
+                    infoAndStatus.put("info", info);
+                    infoAndStatus.put("status", kafkaConnectApiStatusMock(host, connectorName).result());
+                    connectors.put(connectorName, infoAndStatus);
+                }
+            }
+            return Future.succeededFuture(connectors);
         });
         when(api.listConnectorPlugins(any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
@@ -210,16 +239,9 @@ public class ConnectorMockTest {
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenAnswer(invocation -> {
             String host = invocation.getArgument(1);
             String connectorName = invocation.getArgument(3);
-            ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
-            if (connectorState != null) {
-                Map<String, String> map = new HashMap<>();
-                map.put("name", connectorName);
-                for (Map.Entry<String, Object> entry : connectorState.config) {
-                    if (entry.getValue() != null) {
-                        map.put(entry.getKey(), entry.getValue().toString());
-                    }
-                }
-                return Future.succeededFuture(map);
+            Map<String, String> config = connectorConfigMock(host, connectorName);
+            if (config != null) {
+                return Future.succeededFuture(config);
             } else {
                 return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", connectorName), 404, "Not Found", ""));
             }
@@ -561,7 +583,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -583,7 +605,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -623,7 +645,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -644,7 +666,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).create(connect);
         waitForConnectReady(connectName);
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered three times (Connect creation, Connector Status update, Connect Status update)
         verify(api, times(3)).createOrUpdatePutRequest(
@@ -685,7 +707,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -707,7 +729,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(1)).createOrUpdatePutRequest(
@@ -748,7 +770,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -771,7 +793,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered at least two times (Connect creation, Connector Status update)
         verify(api, atLeast(2)).createOrUpdatePutRequest(
@@ -887,6 +909,66 @@ public class ConnectorMockTest {
             })));
     }
 
+    /** Create connect, create connector, reconcile the unchanged connect cluster */
+    @Test
+    public void testUnchangedConnectorsDoNotCausePerConnectorRequests(VertxTestContext context) {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        // Create KafkaConnect cluster and wait till it's ready
+        KafkaConnect connect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).create(connect);
+        waitForConnectReady(connectName);
+
+        // Create KafkaConnector and wait till it's ready
+        KafkaConnector connector = new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+                .build();
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
+        waitForConnectorReady(connectorName);
+
+        // The status update of the connector triggers a second reconciliation by the connector watch, which reads the
+        // config and status of the connector again and ends with reading its status with back-off. Wait for it so that
+        // it does not interfere with the checks below.
+        waitFor("connector watch reconciliations", 100, 10_000,
+            () -> mockingDetails(api).getInvocations().stream()
+                    .filter(invocation -> "statusWithBackOff".equals(invocation.getMethod().getName()))
+                    .count() >= 2);
+        clearInvocations(api);
+
+        Checkpoint async = context.checkpoint();
+        kafkaConnectOperator.reconcile(new Reconciliation("test", "KafkaConnect", NAMESPACE, connectName))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(api, atLeastOnce()).listWithInfoAndStatus(eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+                // The config and status of the unchanged connector are taken from the connector listing
+                verify(api, never()).getConnectorConfig(any(), eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).getConnectorConfig(eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).getConnector(eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).status(eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).statusWithBackOff(any(), eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).createOrUpdatePutRequest(eq(host), anyInt(), eq(connectorName), any());
+                async.flag();
+            })));
+    }
+
     /** Create connect, create connector, delete connector, delete connect */
     @Test
     public void testConnectorNotReadyWhenExceptionFromConnectRestApi() {
@@ -914,7 +996,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered atleast once (Connect creation)
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -934,7 +1016,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -963,7 +1045,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -985,7 +1067,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1050,7 +1132,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1071,7 +1153,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1127,7 +1209,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1148,7 +1230,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1202,7 +1284,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1223,7 +1305,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1278,7 +1360,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1299,7 +1381,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1353,7 +1435,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -1375,14 +1457,14 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithInfoAndStatus(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1419,7 +1501,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -1441,14 +1523,14 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithInfoAndStatus(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -5,8 +5,12 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.debezium.kafka.KafkaCluster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
@@ -29,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -194,7 +199,15 @@ public class KafkaConnectApiTest {
                         "name", "test",
                         "topic", "my-topic")));
             })))
-            .compose(config -> client.getConnectorConfig(new BackOff(10), "localhost", PORT, "does-not-exist"))
+            .compose(config -> client.listWithInfoAndStatus("localhost", PORT))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors.keySet(), is(Collections.singleton("test")));
+                Map<String, Object> info = (Map<String, Object>) connectors.get("test").get("info");
+                assertThat(((Map<String, Object>) info.get("config")).get("connector.class"), is("FileStreamSource"));
+                Map<String, Object> status = (Map<String, Object>) connectors.get("test").get("status");
+                assertThat(((Map<String, Object>) status.get("connector")).get("state"), is("RUNNING"));
+            })))
+            .compose(connectors -> client.getConnectorConfig(new BackOff(10), "localhost", PORT, "does-not-exist"))
             .onComplete(context.failing(error -> context.verify(() -> {
                 assertThat(error, instanceOf(ConnectRestException.class));
                 assertThat(((ConnectRestException) error).getStatusCode(), is(404));
@@ -286,4 +299,23 @@ public class KafkaConnectApiTest {
                             async.flag();
                         }))));
     }
+
+    @Test
+    public void testConnectionsAreReused(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, new MicrometerMetricsProvider(registry));
+        Checkpoint async = context.checkpoint();
+
+        client.list("localhost", PORT)
+                .compose(connectorNames -> client.listConnectorPlugins("localhost", PORT))
+                .compose(connectorPlugins -> client.list("localhost", PORT))
+                .onComplete(context.succeeding(connectorNames -> context.verify(() -> {
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "connect.rest.requests").counter().count(), is(3.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "connect.rest.requests.duration").timer().count(), is(3L));
+                    // The sequential requests are all sent over the same keep-alive connection
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "connect.rest.connections").counter().count(), is(1.0));
+                    client.close();
+                    async.flag();
+                })));
+    }
 }
@@ -47,6 +47,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.Collections;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -143,6 +144,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
             .build());
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
         when(mock.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithInfoAndStatus(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.listConnectorPlugins(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
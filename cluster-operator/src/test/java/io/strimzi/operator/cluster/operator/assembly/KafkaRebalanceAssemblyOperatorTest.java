@@ -221,6 +221,8 @@ public class KafkaRebalanceAssemblyOperatorTest {
             .onComplete(context.succeeding(v -> {
                 // the resource moved from PendingProposal to ProposalReady
                 assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceState.ProposalReady);
+                // the user tasks poller was removed together with its last subscription
+                context.verify(() -> assertThat(kcrao.taskPollers.isEmpty(), is(true)));
                 checkpoint.flag();
             }));
     }
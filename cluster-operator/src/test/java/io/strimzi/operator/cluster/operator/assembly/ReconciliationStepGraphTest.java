@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Future<?> record(List<String> started, String step) {
+        started.add(step);
+        return Future.succeededFuture();
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently(VertxTestContext context) {
+        List<String> started = new CopyOnWriteArrayList<>();
+        Promise<Void> slowStep = Promise.promise();
+
+        new ReconciliationStepGraph(vertx, RECONCILIATION, null)
+                .add("a", () -> record(started, "a"))
+                .add("b", () -> {
+                    started.add("b");
+                    return slowStep.future();
+                }, "a")
+                .add("c", () -> {
+                    // b is still running when c is started
+                    started.add("c");
+                    slowStep.complete();
+                    return Future.succeededFuture();
+                }, "a")
+                .add("d", () -> record(started, "d"), "b", "c")
+                .execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(started, is(asList("a", "b", "c", "d")));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testFailedStepSkipsDependentSteps(VertxTestContext context) {
+        List<String> started = new CopyOnWriteArrayList<>();
+
+        new ReconciliationStepGraph(vertx, RECONCILIATION, null)
+                .add("a", () -> Future.failedFuture(new RuntimeException("failure")))
+                .add("b", () -> record(started, "b"), "a")
+                .add("c", () -> record(started, "c"), "b")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("failure"));
+                    assertThat(started.isEmpty(), is(true));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testNoStepsAreStartedAfterFailure(VertxTestContext context) {
+        List<String> started = new CopyOnWriteArrayList<>();
+        Promise<Void> slowStep = Promise.promise();
+
+        new ReconciliationStepGraph(vertx, RECONCILIATION, null)
+                .add("a", () -> slowStep.future())
+                .add("b", () -> {
+                    vertx.setTimer(50, id -> slowStep.complete());
+                    throw new RuntimeException("failure");
+                })
+                .add("c", () -> record(started, "c"), "a")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    // The failure is reported only after the running step a completed
+                    assertThat(slowStep.future().isComplete(), is(true));
+                    assertThat(e.getMessage(), is("failure"));
+                    assertThat(started.isEmpty(), is(true));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testStepsAreStartedOnTheContextWhenDependencyCompletesOnAnotherThread(VertxTestContext context) {
+        List<Context> contexts = new CopyOnWriteArrayList<>();
+
+        new ReconciliationStepGraph(vertx, RECONCILIATION, null)
+                .add("a", () -> {
+                    contexts.add(Vertx.currentContext());
+                    Promise<Void> promise = Promise.promise();
+                    new Thread(promise::complete).start();
+                    return promise.future();
+                })
+                .add("b", () -> {
+                    contexts.add(Vertx.currentContext());
+                    return Future.succeededFuture();
+                }, "a")
+                .execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(contexts.size(), is(2));
+                    assertThat(contexts.get(0) != null, is(true));
+                    assertThat(contexts.get(1), is(contexts.get(0)));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testInvalidDependencies() {
+        ReconciliationStepGraph graph = new ReconciliationStepGraph(vertx, RECONCILIATION, null)
+                .add("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.add("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.add("b", Future::succeededFuture, "c"));
+    }
+
+    @Test
+    public void testMetrics(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        new ReconciliationStepGraph(vertx, RECONCILIATION, step -> timers.computeIfAbsent(step, s -> registry.timer("strimzi.reconciliation.step.duration", "step", s)))
+                .add("a", Future::succeededFuture)
+                .add("b", Future::succeededFuture, "a")
+                .add("c", () -> Future.failedFuture(new RuntimeException("failure")), "a")
+                .add("d", Future::succeededFuture, "c")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    // Failed steps are timed too, but skipped steps are not
+                    assertThat(timers.keySet(), is(Set.of("a", "b", "c")));
+                    assertThat(timers.get("a").count(), is(1L));
+                    assertThat(timers.get("b").count(), is(1L));
+                    assertThat(timers.get("c").count(), is(1L));
+                    context.completeNow();
+                })));
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -38,10 +39,13 @@ import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -639,4 +643,85 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testTopicsAreDescribedOnceAndIsrsAreRefreshed(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, all replicas being in sync"));
+                // Broker 0 is restarted and has not caught up yet
+                ksb.addNewTopic("A", false).addNewPartition(0).leader(1).isr(1, 2);
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable, the ISR of A being at min.insync.replicas"));
+                return kafkaAvailability.canRoll(3);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll, "broker 3 should be rollable, all replicas of B being in sync");
+                verify(ac, times(1)).listTopics(any());
+                // The initial snapshot and a refresh of the ISRs for each subsequent broker
+                verify(ac, times(3)).describeTopics(any());
+                // The config of A for broker 0 and the config of B for broker 1
+                verify(ac, times(2)).describeConfigs(any());
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testReplicaPeers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic()
+                .addBroker(3);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac());
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.replicaPeers(1)
+            .compose(peers -> {
+                context.verify(() -> assertThat(peers, is(new HashSet<>(Arrays.asList(0, 2)))));
+                return kafkaAvailability.replicaPeers(0);
+            })
+            .compose(peers -> {
+                context.verify(() -> assertThat(peers, is(Collections.singleton(1))));
+                return kafkaAvailability.replicaPeers(3);
+            })
+            .onComplete(context.succeeding(peers -> context.verify(() -> {
+                assertThat(peers, is(Collections.emptySet()));
+                a.flag();
+            })));
+    }
 }
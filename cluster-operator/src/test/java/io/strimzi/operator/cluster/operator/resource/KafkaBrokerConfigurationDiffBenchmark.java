@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.test.TestUtils;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time needed to compute the {@link KafkaBrokerConfigurationDiff} of one broker, the way it is done by
+ * the {@link KafkaRoller} for every broker. The current configuration is a complete broker configuration as returned
+ * by the Admin API (about 200 entries) and the desired configuration is the one generated by the operator, with
+ * {@code changes} of its values changed.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.operator.cluster.operator.resource.KafkaBrokerConfigurationDiffBenchmark -Dexec.classpathScope=test}
+ * from the cluster-operator directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+
+    private static final String[] CHANGEABLE = {
+        "min.insync.replicas=2",
+        "log.retention.hours=72",
+        "num.network.threads=8",
+        "num.io.threads=16",
+        "log.cleaner.threads=2",
+        "unclean.leader.election.enable=true",
+        "message.max.bytes=2000000",
+        "background.threads=20",
+        "log.segment.bytes=536870912",
+        "num.replica.fetchers=4"
+    };
+
+    @Param({"0", "1", "10"})
+    public int changes;
+
+    private KafkaVersion kafkaVersion;
+    private Config current;
+    private String desired;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+        List<ConfigEntry> entries = new ArrayList<>();
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("current-kafka-broker.conf")) {
+            for (String line : TestUtils.readResource(is).split(System.lineSeparator())) {
+                String[] split = line.split("=");
+                entries.add(new ConfigEntry(split[0], split.length == 1 ? "" : split[1], true, true, false));
+            }
+        }
+        current = new Config(entries);
+
+        StringBuilder desiredBuilder = new StringBuilder();
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("desired-kafka-broker.conf")) {
+            desiredBuilder.append(TestUtils.readResource(is));
+        }
+        for (int i = 0; i < changes; i++) {
+            desiredBuilder.append('\n').append(CHANGEABLE[i]);
+        }
+        desired = desiredBuilder.toString();
+    }
+
+    @Benchmark
+    public KafkaBrokerConfigurationDiff diff() {
+        return new KafkaBrokerConfigurationDiff(current, desired, kafkaVersion, 0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KafkaBrokerConfigurationDiffBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
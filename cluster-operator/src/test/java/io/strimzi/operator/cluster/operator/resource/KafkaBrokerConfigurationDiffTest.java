@@ -280,4 +280,15 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testPropertyRemovedAndOtherPropertyAddedWithSameValue() {
+        List<ConfigEntry> current = singletonList(new ConfigEntry("log.retention.hours", "168"));
+        List<ConfigEntry> desired = singletonList(new ConfigEntry("max.connection.creation.rate", "168"));
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(getCurrentConfiguration(current),
+                getDesiredConfiguration(desired), kafkaVersion, brokerId);
+        assertThat(kcd.getDiffSize(), is(2));
+        assertConfig(kcd, new ConfigEntry("log.retention.hours", null));
+        assertConfig(kcd, new ConfigEntry("max.connection.creation.rate", "168"));
+    }
+
 }
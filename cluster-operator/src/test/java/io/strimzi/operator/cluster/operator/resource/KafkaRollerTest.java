@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
@@ -23,12 +24,14 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -440,6 +443,51 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testParallelRollingOfPodsSharingNoPartitions(VertxTestContext testContext) {
+        // Pods 0 and 1 share partitions, as do pods 2 and 3
+        Function<Integer, Set<Integer>> replicaPeers = podId -> podId < 4 ? Collections.singleton(podId ^ 1) : Collections.emptySet();
+        Set<Integer> inFlight = new HashSet<>();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<String> violations = Collections.synchronizedList(new ArrayList<>());
+        PodOperator podOps = mockPodOps(podId -> {
+            if (!restarted.contains(KafkaCluster.kafkaPodName(clusterName(), podId))) {
+                return succeededFuture();
+            }
+            synchronized (inFlight) {
+                for (Integer other : inFlight) {
+                    if (replicaPeers.apply(podId).contains(other)) {
+                        violations.add(podId + " was restarted alongside " + other);
+                    }
+                }
+                inFlight.add(podId);
+                maxInFlight.accumulateAndGet(inFlight.size(), Math::max);
+            }
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(100, timerId -> {
+                synchronized (inFlight) {
+                    inFlight.remove(podId);
+                }
+                ready.complete();
+            });
+            return ready.future();
+        });
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), 2, replicaPeers, -1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(new HashSet<>(asList(0, 1, 2, 3, 4))));
+                assertThat(violations, is(emptyList()));
+                assertThat(maxInFlight.get(), is(2));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -516,7 +564,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -572,6 +620,7 @@ public class KafkaRollerTest {
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
+        private final Function<Integer, Set<Integer>> replicaPeersFn;
         private final int[] controllers;
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
@@ -583,9 +632,25 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, 1, podId -> Collections.emptySet(), controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int maxParallelRestarts,
+                                   Function<Integer, Set<Integer>> replicaPeersFn,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, null, "", "", KafkaVersionTestUtils.getLatestVersion(), true, maxParallelRestarts);
+            this.replicaPeersFn = replicaPeersFn;
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -636,6 +701,11 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Set<Integer>> replicaPeers(int podId) {
+                    return succeededFuture(replicaPeersFn.apply(podId));
+                }
             };
         }
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetStatusBuilder;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.Annotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares the {@link StatefulSetDiff} with the previous implementation based on {@code JsonDiff} and a regular
+ * expression matched against every path of the JSON patch. The desired StatefulSet is the one generated by the
+ * operator for a Kafka cluster and the current one is the same StatefulSet with the fields set by Kubernetes (status,
+ * defaults, ...) and, depending on {@code change}, a different container image.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.operator.cluster.operator.resource.StatefulSetDiffBenchmark -Dexec.classpathScope=test}
+ * from the cluster-operator directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StatefulSetDiffBenchmark {
+
+    private static final String SHORTENED_STRIMZI_DOMAIN = Annotations.STRIMZI_DOMAIN.substring(0, Annotations.STRIMZI_DOMAIN.length() - 1);
+
+    // The ignored paths of the previous implementation
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
+        "^(/metadata/managedFields"
+        + "|/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1desired-state-hash"
+        + "|/spec/revisionHistoryLimit"
+        + "|/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation"
+        + "|/spec/template/spec/initContainers/[0-9]+/resources"
+        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePath"
+        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePolicy"
+        + "|/spec/template/spec/initContainers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
+        + "|/spec/template/spec/containers/[0-9]+/resources"
+        + "|/spec/template/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
+        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/failureThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/periodSeconds"
+        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/successThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/failureThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/periodSeconds"
+        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/successThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePath"
+        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePolicy"
+        + "|/spec/template/spec/dnsPolicy"
+        + "|/spec/template/spec/restartPolicy"
+        + "|/spec/template/spec/securityContext"
+        + "|/spec/template/spec/volumes/[0-9]+/configMap/defaultMode"
+        + "|/spec/template/spec/volumes/[0-9]+/secret/defaultMode"
+        + "|/spec/volumeClaimTemplates/[0-9]+/status"
+        + "|/spec/volumeClaimTemplates/[0-9]+/spec/volumeMode"
+        + "|/spec/volumeClaimTemplates/[0-9]+/spec/dataSource"
+        + "|/spec/template/spec/serviceAccount"
+        + "|/status)$");
+
+    @Param({"none", "image"})
+    public String change;
+
+    private StatefulSet current;
+    private StatefulSet desired;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(
+                ResourceUtils.createKafka("my-namespace", "my-cluster", 3, "strimzi/kafka:latest", 120, 30),
+                KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        desired = kafkaCluster.generateStatefulSet(false, null, null);
+        current = kafkaCluster.generateStatefulSet(false, null, null);
+
+        // The fields set by Kubernetes
+        current.getMetadata().setUid("d8a4fd2c-1c9d-4b4b-9e5e-b0e0f7e5a3c1");
+        current.getMetadata().setResourceVersion("123456");
+        current.getMetadata().setGeneration(3L);
+        current.getSpec().setRevisionHistoryLimit(10);
+        PodSpec podSpec = current.getSpec().getTemplate().getSpec();
+        podSpec.setDnsPolicy("ClusterFirst");
+        podSpec.setRestartPolicy("Always");
+        for (Container container : podSpec.getContainers()) {
+            container.setTerminationMessagePath("/dev/termination-log");
+            container.setTerminationMessagePolicy("File");
+        }
+        for (Volume volume : podSpec.getVolumes()) {
+            if (volume.getConfigMap() != null) {
+                volume.getConfigMap().setDefaultMode(420);
+            }
+            if (volume.getSecret() != null) {
+                volume.getSecret().setDefaultMode(420);
+            }
+        }
+        current.setStatus(new StatefulSetStatusBuilder()
+                .withReplicas(3)
+                .withReadyReplicas(3)
+                .withCurrentReplicas(3)
+                .withUpdatedReplicas(3)
+                .withObservedGeneration(3L)
+                .withCurrentRevision("my-cluster-kafka-5b6c7d8f9")
+                .withUpdateRevision("my-cluster-kafka-5b6c7d8f9")
+                .build());
+
+        if ("image".equals(change)) {
+            podSpec.getContainers().get(0).setImage("strimzi/kafka:previous");
+        }
+    }
+
+    @Benchmark
+    public boolean jsonDiff() {
+        JsonNode source = patchMapper().valueToTree(current);
+        JsonNode target = patchMapper().valueToTree(desired);
+        JsonNode diff = JsonDiff.asJson(source, target);
+        int num = 0;
+        for (JsonNode d : diff) {
+            if (!IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                num++;
+            }
+        }
+        return num == 0;
+    }
+
+    @Benchmark
+    public boolean structuralDiff() {
+        return new StatefulSetDiff(current, desired).isEmpty();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StatefulSetDiffBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
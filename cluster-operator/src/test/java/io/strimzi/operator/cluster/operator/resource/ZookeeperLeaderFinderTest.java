@@ -18,6 +18,7 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
@@ -50,9 +51,12 @@ import static java.lang.Integer.parseInt;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static org.hamcrest.CoreMatchers.both;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -422,7 +426,12 @@ public class ZookeeperLeaderFinderTest {
             .onComplete(context.succeeding(leader -> context.verify(() -> {
                 assertThat(leader, is(desiredLeaderId));
                 for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
+                    if (zk.id == desiredLeaderId) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
+                    } else {
+                        // The nodes are checked concurrently, so the last check of the other node might still be running
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(both(greaterThanOrEqualTo(succeedOnAttempt)).and(lessThanOrEqualTo(succeedOnAttempt + 1))));
+                    }
                 }
                 a.flag();
             })));
@@ -460,12 +469,98 @@ public class ZookeeperLeaderFinderTest {
             .onComplete(context.succeeding(l -> context.verify(() -> {
                 assertThat(l, is(leader));
                 for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    if (zk.id == leader) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    } else {
+                        // The nodes are checked concurrently, so the check of the other node might still be running
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(lessThanOrEqualTo(1)));
+                    }
                 }
                 a.flag();
             })));
     }
 
+    @Test
+    public void testPreviousLeaderCheckedFirst(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == leader);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1), createPodWithId(2));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret())
+            .compose(l -> {
+                context.verify(() -> assertThat(l, is(leader)));
+                return finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                for (FakeZk zk : zks) {
+                    if (zk.id == leader) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(2));
+                    } else {
+                        // The other nodes are checked only by the first call
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(lessThanOrEqualTo(1)));
+                    }
+                }
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testRemovedClusterForgetsPreviousLeader(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == leader);
+
+        AtomicInteger leaderChecks = new AtomicInteger();
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports) {
+            @Override
+            protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
+                leaderChecks.incrementAndGet();
+                return super.isLeader(pod, netClient);
+            }
+        };
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1), createPodWithId(2));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret())
+            .compose(l -> {
+                context.verify(() -> {
+                    assertThat(l, is(leader));
+                    assertThat(leaderChecks.get(), is(3));
+                });
+                finder.removeCluster(NAMESPACE, CLUSTER);
+                return finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                // The previous leader was forgotten, so all the nodes are checked again using a new client
+                assertThat(leaderChecks.get(), is(6));
+                a.flag();
+            })));
+    }
+
     Pod createPodWithId(int id) {
         return new PodBuilder()
                 .withNewMetadata()
@@ -4,6 +4,10 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -17,6 +21,7 @@ import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Set;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKey;
@@ -151,6 +156,25 @@ public class CruiseControlClientTest {
             })));
     }
 
+    @Test
+    public void testCCGetRebalanceUserTasks(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = new CruiseControlApiImpl(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, Set.of(userTaskID))
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(result.keySet(), is(Set.of(userTaskID)));
+                assertThat(result.get(userTaskID).succeeded(), is(true));
+                assertThat(result.get(userTaskID).result(), hasEntry("Status", CruiseControlUserTaskStatus.COMPLETED.toString()));
+                assertThat(result.get(userTaskID).result().getJsonObject(CC_REST_API_SUMMARY), is(notNullValue()));
+                checkpoint.flag();
+            })));
+    }
+
     @Test
     public void testCCGetRebalanceVerboseUserTask(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
 
@@ -169,4 +193,27 @@ public class CruiseControlClientTest {
             })));
     }
 
+    @Test
+    public void testConnectionsAreReused(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCStateResponse(ccServer);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CruiseControlApi client = new CruiseControlApiImpl(vertx, 0, 1, new MicrometerMetricsProvider(registry));
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getCruiseControlState(HOST, PORT, false)
+            .compose(result -> client.getCruiseControlState(HOST, PORT, false))
+            .compose(result -> client.getCruiseControlState(HOST, PORT, false))
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.requests").tag("kind", "KafkaRebalance").counter().count(), is(3.0));
+                assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.requests.duration").tag("kind", "KafkaRebalance").timer().count(), is(3L));
+                // The sequential requests are all sent over the same keep-alive connection
+                assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.connections").tag("kind", "KafkaRebalance").counter().count(), is(1.0));
+                assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "cruisecontrol.rest.connections.open").tag("kind", "KafkaRebalance").gauge().value(), is(1.0));
+
+                client.close();
+                checkpoint.flag();
+            })));
+    }
 }
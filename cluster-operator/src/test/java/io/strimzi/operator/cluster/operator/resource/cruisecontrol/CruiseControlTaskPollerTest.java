@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlTaskPollerTest {
+
+    private static final int PORT = 9090;
+    private static final String HOST = "my-cluster-cruise-control";
+
+    @Test
+    public void testTasksArePolledTogether(Vertx vertx, VertxTestContext context) {
+        JsonObject active = new JsonObject().put("Status", CruiseControlUserTaskStatus.ACTIVE.toString());
+
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", Future.succeededFuture(active))));
+
+        CruiseControlTaskPoller poller = new CruiseControlTaskPoller(vertx, apiClient, HOST, PORT, 10);
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        poller.poll("task-1", (id, status) -> context.verify(() -> {
+            poller.cancel(id);
+            assertThat(status.succeeded(), is(true));
+            assertThat(status.result(), is(active));
+            checkpoint.flag();
+        }));
+        poller.poll("task-2", (id, status) -> context.verify(() -> {
+            poller.cancel(id);
+            assertThat(status.succeeded(), is(true));
+            assertThat(status.result(), is(nullValue()));
+            assertThat(poller.size(), is(0));
+            verify(apiClient).getUserTasksStatus(eq(HOST), eq(PORT), eq(Set.of("task-1", "task-2")));
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testTaskStatusFailureIsDeliveredToItsSubscriberOnly(Vertx vertx, VertxTestContext context) {
+        JsonObject active = new JsonObject().put("Status", CruiseControlUserTaskStatus.ACTIVE.toString());
+
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of(
+                        "task-1", Future.succeededFuture(active),
+                        "task-2", Future.failedFuture(new CruiseControlRestException("Unparseable")))));
+
+        CruiseControlTaskPoller poller = new CruiseControlTaskPoller(vertx, apiClient, HOST, PORT, 10);
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        poller.poll("task-1", (id, status) -> context.verify(() -> {
+            poller.cancel(id);
+            assertThat(status.succeeded(), is(true));
+            assertThat(status.result(), is(active));
+            checkpoint.flag();
+        }));
+        poller.poll("task-2", (id, status) -> context.verify(() -> {
+            poller.cancel(id);
+            assertThat(status.failed(), is(true));
+            assertThat(status.cause().getMessage(), is("Unparseable"));
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testFailureIsDeliveredToAllSubscribers(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.failedFuture(new CruiseControlRestException("Unreachable")));
+
+        CruiseControlTaskPoller poller = new CruiseControlTaskPoller(vertx, apiClient, HOST, PORT, 10);
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        for (String userTaskId : Set.of("task-1", "task-2")) {
+            poller.poll(userTaskId, (id, status) -> context.verify(() -> {
+                poller.cancel(id);
+                assertThat(status.failed(), is(true));
+                assertThat(status.cause().getMessage(), is("Unreachable"));
+                checkpoint.flag();
+            }));
+        }
+    }
+
+    @Test
+    public void testNoRequestWithoutUserTasks(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+
+        CruiseControlTaskPoller poller = new CruiseControlTaskPoller(vertx, apiClient, HOST, PORT, 10);
+
+        Checkpoint checkpoint = context.checkpoint();
+        poller.poll(null, (id, status) -> context.verify(() -> {
+            poller.cancel(id);
+            assertThat(status.succeeded(), is(true));
+            assertThat(status.result(), is(nullValue()));
+            verify(apiClient, never()).getUserTasksStatus(anyString(), anyInt(), any());
+            checkpoint.flag();
+        }));
+    }
+}
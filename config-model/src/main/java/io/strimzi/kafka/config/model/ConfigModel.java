@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -20,6 +22,8 @@ import static java.util.Collections.singletonList;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern BOOLEAN_PATTERN = Pattern.compile("true|false");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -29,6 +33,11 @@ public class ConfigModel {
     private List<String> values;
     private String pattern;
 
+    // Derived from the properties above when they are set, so that validation doesn't need to rebuild them every time
+    private Set<String> itemSet;
+    private Set<String> valueSet;
+    private Pattern compiledPattern;
+
     /**
      * @return The scope of the parameter.
      */
@@ -79,6 +88,7 @@ public class ConfigModel {
 
     public void setItems(List<String> items) {
         this.items = items;
+        this.itemSet = items != null ? new HashSet<>(items) : null;
     }
 
     /**
@@ -90,6 +100,7 @@ public class ConfigModel {
 
     public void setValues(List<String> values) {
         this.values = values;
+        this.valueSet = values != null ? new HashSet<>(values) : null;
     }
 
     /**
@@ -101,6 +112,7 @@ public class ConfigModel {
 
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
     }
 
     public List<String> validate(String configName, String value) {
@@ -130,13 +142,13 @@ public class ConfigModel {
 
     private List<String> validateString(String configName, String value) {
         List<String> errors = emptyList();
-        if (getValues() != null
-                && !getValues().contains(value)) {
+        if (valueSet != null
+                && !valueSet.contains(value)) {
             errors = new ArrayList<>(1);
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
-        if (getPattern() != null
-                && !value.matches(getPattern())) {
+        if (compiledPattern != null
+                && !compiledPattern.matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -146,7 +158,7 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!BOOLEAN_PATTERN.matcher(value).matches()) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
@@ -154,9 +166,9 @@ public class ConfigModel {
 
     private List<String> validateList(String configName, String value) {
         List<String> l = asList(value.trim().split(" *, *", -1));
-        if (getItems() != null) {
+        if (itemSet != null) {
             HashSet<String> items = new HashSet<>(l);
-            items.removeAll(getItems());
+            items.removeAll(itemSet);
             if (!items.isEmpty()) {
                 return singletonList(configName + " contains values " + items + " which are not in the allowed items " + getItems());
             }
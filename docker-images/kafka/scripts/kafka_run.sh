@@ -14,6 +14,8 @@ if [ -z "$KAFKA_LOG4J_OPTS" ]; then
 fi
 
 rm -f /var/opt/kafka/kafka-ready /var/opt/kafka/zk-connected 2> /dev/null
+# The broker state HTTP endpoint of the kafka-agent is opt-in: the agent reads STRIMZI_KAFKA_AGENT_HTTP_PORT and
+# STRIMZI_KAFKA_AGENT_HTTP_BIND_ADDRESS (loopback by default) from the environment
 KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
 export KAFKA_OPTS
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.Metric;
+import com.yammer.metrics.core.MetricName;
+import com.yammer.metrics.core.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A small HTTP server exposing the state of the broker, read directly from the Yammer Metrics registry, so that it
+ * can be queried without waiting for the readiness probe to run and the pod status to be updated.
+ * <ul>
+ *     <li>{@code GET /v1/broker-state} returns the broker state (see {@code kafka.server.BrokerState}), the log
+ *     recovery progress and the number of under-replicated partitions as JSON.</li>
+ *     <li>{@code GET /v1/ready} returns 204 once the broker is running as broker and 503 with the same JSON as
+ *     {@code /v1/broker-state} before.</li>
+ * </ul>
+ * The values which are not available (because the broker has not registered the metric yet, or because the Kafka
+ * version does not have it) are {@code null}.
+ */
+class BrokerStateServer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrokerStateServer.class);
+
+    private static final int RUNNING_AS_BROKER = 3;
+
+    private final MetricsRegistry metricsRegistry;
+    private final InetSocketAddress address;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Constructor
+     *
+     * @param metricsRegistry   The registry with the broker metrics
+     * @param address           The address to bind the server to
+     */
+    BrokerStateServer(MetricsRegistry metricsRegistry, InetSocketAddress address) {
+        this.metricsRegistry = metricsRegistry;
+        this.address = address;
+    }
+
+    /**
+     * Starts the server
+     *
+     * @throws IOException  If the server could not bind the address
+     */
+    void start() throws IOException {
+        server = HttpServer.create(address, 0);
+        server.createContext("/v1/broker-state", exchange -> handle(exchange, false));
+        server.createContext("/v1/ready", exchange -> handle(exchange, true));
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KafkaAgentHttpServer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        // The dispatcher thread of the server inherits the daemon status of the thread starting it, and must not
+        // keep the broker JVM running once Kafka has stopped
+        executor.execute(server::start);
+        LOGGER.info("Broker state endpoint listening on {}", server.getAddress());
+    }
+
+    /**
+     * Stops the server
+     */
+    void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * @return  The address the server is bound to
+     */
+    InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange, boolean readiness) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Number brokerState = sum("kafka.server", "KafkaServer", "BrokerState");
+            if (readiness && brokerState != null && brokerState.intValue() == RUNNING_AS_BROKER) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+
+            byte[] body = ("{\"brokerState\":" + brokerState
+                    + ",\"recoveryState\":{"
+                    + "\"remainingLogsToRecover\":" + sum("kafka.log", "LogManager", "remainingLogsToRecover")
+                    + ",\"remainingSegmentsToRecover\":" + sum("kafka.log", "LogManager", "remainingSegmentsToRecover")
+                    + "},\"underReplicatedPartitions\":" + sum("kafka.server", "ReplicaManager", "UnderReplicatedPartitions")
+                    + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(readiness ? 503 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Error handling request {}", exchange.getRequestURI(), e);
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sums the values of the gauges with the given group, type and name. Some metrics (like the log recovery ones)
+     * are registered once per log directory or recovery thread, with the directory or thread in the scope.
+     *
+     * @return  The sum of the values, or null if there is no such gauge
+     */
+    private Long sum(String group, String type, String name) {
+        Long sum = null;
+        for (Map.Entry<MetricName, Metric> entry : metricsRegistry.allMetrics().entrySet()) {
+            MetricName metricName = entry.getKey();
+            if (group.equals(metricName.getGroup())
+                    && type.equals(metricName.getType())
+                    && name.equals(metricName.getName())
+                    && entry.getValue() instanceof Gauge) {
+                Object value = ((Gauge<?>) entry.getValue()).value();
+                if (value instanceof Number) {
+                    sum = (sum == null ? 0L : sum) + ((Number) value).longValue();
+                }
+            }
+        }
+        return sum;
+    }
+}
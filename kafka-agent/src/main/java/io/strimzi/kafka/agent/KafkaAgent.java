@@ -17,12 +17,15 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 
 /**
  * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
  * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * Optionally, the agent also starts a {@link BrokerStateServer} which exposes the broker state over HTTP.
  */
 public class KafkaAgent {
 
@@ -34,10 +37,23 @@ public class KafkaAgent {
     private Gauge brokerState;
     private MetricName sessionStateName;
     private Gauge sessionState;
+    private final InetSocketAddress httpAddress;
 
     public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
+        this(brokerReadyFile, sessionConnectedFile, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param brokerReadyFile       File created once the broker is running
+     * @param sessionConnectedFile  File present while the ZooKeeper session is connected
+     * @param httpAddress           Address of the broker state HTTP endpoint, or null to disable it
+     */
+    public KafkaAgent(File brokerReadyFile, File sessionConnectedFile, InetSocketAddress httpAddress) {
         this.brokerReadyFile = brokerReadyFile;
         this.sessionConnectedFile = sessionConnectedFile;
+        this.httpAddress = httpAddress;
     }
 
     /**
@@ -65,6 +81,15 @@ public class KafkaAgent {
 
         MetricsRegistry metricsRegistry = metricsRegistry();
 
+        if (httpAddress != null) {
+            try {
+                new BrokerStateServer(metricsRegistry, httpAddress).start();
+            } catch (IOException e) {
+                // The endpoint is optional, the readiness of the broker is still reported through the file
+                LOGGER.error("Could not start the broker state endpoint on {}", httpAddress, e);
+            }
+        }
+
         metricsRegistry.addListener(new MetricsRegistryListener() {
             @Override
             public void onMetricRemoved(MetricName metricName) {
@@ -183,16 +208,33 @@ public class KafkaAgent {
 
     /**
      * Agent entry point
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments: {@code brokerReadyFile:sessionConnectedFile}. Only the first {@code :}
+     *                  separates the two files, so the path of the session connected file can contain {@code :}.
+     *                  The broker state HTTP endpoint is enabled by the {@code STRIMZI_KAFKA_AGENT_HTTP_PORT}
+     *                  environment variable and listens on the loopback address, unless another address is set in
+     *                  the {@code STRIMZI_KAFKA_AGENT_HTTP_BIND_ADDRESS} environment variable.
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs.split(":", 2);
+        if (args.length != 2) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            File brokerReadyFile = new File(args[0]);
+            File sessionConnectedFile = new File(args[1]);
+            InetSocketAddress httpAddress = null;
+            String httpPort = System.getenv("STRIMZI_KAFKA_AGENT_HTTP_PORT");
+            if (httpPort != null && !httpPort.isEmpty()) {
+                String httpBindAddress = System.getenv("STRIMZI_KAFKA_AGENT_HTTP_BIND_ADDRESS");
+                try {
+                    httpAddress = httpBindAddress != null && !httpBindAddress.isEmpty()
+                            ? new InetSocketAddress(httpBindAddress, Integer.parseInt(httpPort))
+                            : new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(httpPort));
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Unable to parse the broker state endpoint address {} and port {}", httpBindAddress, httpPort);
+                    System.exit(1);
+                }
+            }
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
@@ -200,8 +242,8 @@ public class KafkaAgent {
                 LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
                 System.exit(1);
             } else {
-                LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
+                LOGGER.info("Starting KafkaAgent with brokerReadyFile={}, sessionConnectedFile={} and httpAddress={}", brokerReadyFile, sessionConnectedFile, httpAddress);
+                new KafkaAgent(brokerReadyFile, sessionConnectedFile, httpAddress).run();
             }
         }
     }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.MetricName;
+import com.yammer.metrics.core.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BrokerStateServerTest {
+
+    private MetricsRegistry metricsRegistry;
+    private BrokerStateServer server;
+
+    @BeforeEach
+    public void before() throws IOException {
+        metricsRegistry = new MetricsRegistry();
+        server = new BrokerStateServer(metricsRegistry, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    public void after() {
+        server.stop();
+        metricsRegistry.shutdown();
+    }
+
+    private void gauge(String group, String type, String name, String scope, Object value) {
+        metricsRegistry.newGauge(new MetricName(group, type, name, scope), new Gauge<Object>() {
+            @Override
+            public Object value() {
+                return value;
+            }
+        });
+    }
+
+    private HttpURLConnection request(String method, String path) throws IOException {
+        URL url = new URL("http", server.address().getHostString(), server.address().getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private static String body(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getResponseCode() < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testBrokerStateWithoutMetrics() throws IOException {
+        HttpURLConnection connection = request("GET", "/v1/broker-state");
+
+        assertThat(connection.getResponseCode(), is(200));
+        assertThat(connection.getContentType(), is("application/json"));
+        assertThat(body(connection), is("{\"brokerState\":null,"
+                + "\"recoveryState\":{\"remainingLogsToRecover\":null,\"remainingSegmentsToRecover\":null},"
+                + "\"underReplicatedPartitions\":null}"));
+    }
+
+    @Test
+    public void testBrokerStateSumsTheMetricsOfAllScopes() throws IOException {
+        gauge("kafka.server", "KafkaServer", "BrokerState", null, (byte) 2);
+        gauge("kafka.log", "LogManager", "remainingLogsToRecover", "dir.a", 3);
+        gauge("kafka.log", "LogManager", "remainingLogsToRecover", "dir.b", 4);
+        gauge("kafka.log", "LogManager", "remainingSegmentsToRecover", "dir.a.threadNum.0", 10);
+        gauge("kafka.server", "ReplicaManager", "UnderReplicatedPartitions", null, 5);
+
+        HttpURLConnection connection = request("GET", "/v1/broker-state");
+
+        assertThat(connection.getResponseCode(), is(200));
+        assertThat(body(connection), is("{\"brokerState\":2,"
+                + "\"recoveryState\":{\"remainingLogsToRecover\":7,\"remainingSegmentsToRecover\":10},"
+                + "\"underReplicatedPartitions\":5}"));
+    }
+
+    @Test
+    public void testNotReadyBeforeRunningAsBroker() throws IOException {
+        gauge("kafka.server", "KafkaServer", "BrokerState", null, (byte) 2);
+
+        HttpURLConnection connection = request("GET", "/v1/ready");
+
+        assertThat(connection.getResponseCode(), is(503));
+        assertThat(connection.getContentType(), is("application/json"));
+        assertThat(body(connection), is("{\"brokerState\":2,"
+                + "\"recoveryState\":{\"remainingLogsToRecover\":null,\"remainingSegmentsToRecover\":null},"
+                + "\"underReplicatedPartitions\":null}"));
+    }
+
+    @Test
+    public void testReadyWhenRunningAsBroker() throws IOException {
+        gauge("kafka.server", "KafkaServer", "BrokerState", null, (byte) 3);
+
+        HttpURLConnection connection = request("GET", "/v1/ready");
+
+        assertThat(connection.getResponseCode(), is(204));
+    }
+
+    @Test
+    public void testOnlyGetIsAllowed() throws IOException {
+        HttpURLConnection connection = request("POST", "/v1/broker-state");
+
+        assertThat(connection.getResponseCode(), is(405));
+    }
+}
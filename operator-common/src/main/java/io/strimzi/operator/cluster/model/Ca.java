@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
@@ -39,11 +40,19 @@ import java.time.format.SignStyle;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -97,6 +106,36 @@ public abstract class Ca {
     public static final String ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION = Annotations.STRIMZI_DOMAIN + "clients-ca-cert-generation";
     public static final int INIT_GENERATION = 0;
 
+    /**
+     * The maximum number of parsed certificates kept in the cache. The pod certificates and the CA certificates are
+     * parsed again on every reconciliation, but they only change when they are renewed.
+     */
+    private static final int PARSED_CERTS_CACHE_SIZE = 1024;
+    private static final Map<String, X509Certificate> PARSED_CERTS = Collections.synchronizedMap(
+        new LinkedHashMap<String, X509Certificate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, X509Certificate> eldest) {
+                return size() > PARSED_CERTS_CACHE_SIZE;
+            }
+        });
+
+    /**
+     * Pool used to generate the certificates of several pods at the same time. Its threads are stopped when there is
+     * no certificate to generate.
+     */
+    private static final ExecutorService CERT_GENERATION_EXECUTOR;
+    static {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cert-generation");
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        CERT_GENERATION_EXECUTOR = executor;
+    }
+
     private final PasswordGenerator passwordGenerator;
 
     /**
@@ -312,27 +351,84 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
+        Subject subject = new Subject();
+
+        if (organization != null) {
+            subject.setOrganizationName(organization);
+        }
+
+        subject.setCommonName(commonName);
+
+        return generateSignedCert(subject);
+    }
+
+    /**
+     * Generates a certificate signed by this CA, using its own temporary files so that several certificates can be
+     * generated at the same time.
+     * @param subject The subject of the certificate to be generated.
+     * @return The CertAndKey
+     * @throws IOException If the cert could not be generated.
+     */
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
         File csrFile = File.createTempFile("tls", "csr");
         File keyFile = File.createTempFile("tls", "key");
         File certFile = File.createTempFile("tls", "cert");
         File keyStoreFile = File.createTempFile("tls", "p12");
 
-        Subject subject = new Subject();
+        try {
+            return generateSignedCert(subject,
+                    csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(csrFile);
+            delete(keyFile);
+            delete(certFile);
+            delete(keyStoreFile);
+        }
+    }
 
-        if (organization != null) {
-            subject.setOrganizationName(organization);
+    /**
+     * Generates the certificates signed by this CA for the given subjects. When there is more than one certificate
+     * to generate, they are generated in parallel on a pool bounded by the number of available processors.
+     * @param subjects The subjects of the certificates to be generated, by pod name.
+     * @return The generated certificates, by pod name.
+     * @throws IOException If any of the certs could not be generated.
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects) throws IOException {
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+
+        if (subjects.size() <= 1) {
+            for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+                certs.put(entry.getKey(), generateSignedCert(entry.getValue()));
+            }
+            return certs;
         }
 
-        subject.setCommonName(commonName);
+        Map<String, Future<CertAndKey>> futures = new HashMap<>(subjects.size());
+        for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+            futures.put(entry.getKey(), CERT_GENERATION_EXECUTOR.submit(() -> generateSignedCert(entry.getValue())));
+        }
 
-        CertAndKey result = generateSignedCert(subject,
-                csrFile, keyFile, certFile, keyStoreFile);
+        try {
+            for (Map.Entry<String, Future<CertAndKey>> entry : futures.entrySet()) {
+                certs.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new RuntimeException(e.getCause());
+            }
+        } finally {
+            // Do not leave the remaining certificates being generated when one of them failed
+            futures.values().forEach(future -> future.cancel(true));
+        }
 
-        delete(csrFile);
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-        return result;
+        return certs;
     }
 
     /**
@@ -352,13 +448,9 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        Map<String, Subject> certsToGenerate = new HashMap<>(replicas);
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -399,9 +491,7 @@ public abstract class Ca {
 
             if (!reasons.isEmpty())  {
                 log.debug("Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                certsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -414,14 +504,11 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             log.debug("Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            certsToGenerate.put(podName, subjectFn.apply(i));
         }
-        delete(brokerCsrFile);
-        delete(brokerKeyFile);
-        delete(brokerCertFile);
-        delete(brokerKeyStoreFile);
+
+        // the certificates of the different pods are independent, so they are generated together
+        certs.putAll(generateSignedCerts(certsToGenerate));
 
         return certs;
     }
@@ -840,8 +927,26 @@ public abstract class Ca {
     }
 
     static X509Certificate x509Certificate(byte[] bytes) throws CertificateException {
-        CertificateFactory factory = certificateFactory();
-        return x509Certificate(factory, bytes);
+        String hash = certificateHash(bytes);
+        X509Certificate cert = PARSED_CERTS.get(hash);
+        if (cert == null) {
+            CertificateFactory factory = certificateFactory();
+            cert = x509Certificate(factory, bytes);
+            PARSED_CERTS.put(hash, cert);
+        }
+        return cert;
+    }
+
+    /**
+     * @param bytes The certificate
+     * @return The SHA-256 hash of the certificate, used as the key of the parsed certificates cache
+     */
+    private static String certificateHash(byte[] bytes) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 MessageDigest instance", e);
+        }
     }
 
     static X509Certificate x509Certificate(CertificateFactory factory, byte[] bytes) throws CertificateException {
@@ -92,8 +92,25 @@ public abstract class AbstractOperator<
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<Tags, AtomicInteger> resourcesStateCounter;
+    private final ReconciliationQueue reconciliationQueue;
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Kind of the custom resource operated by this operator
+     * @param resourceOperator                  Resource operator for the custom resource
+     * @param metrics                           Metrics provider
+     * @param selectorLabels                    Labels used to filter the custom resources, or null
+     * @param watchReconciliationMinIntervalMs  Minimum interval in milliseconds between two queued reconciliations of
+     *                                          the same resource (triggered by the watch or periodically), or 0 to not
+     *                                          limit the rate
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels, long watchReconciliationMinIntervalMs) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
@@ -132,6 +149,8 @@ public abstract class AbstractOperator<
                 metricTags);
 
         resourcesStateCounter = new ConcurrentHashMap<>();
+
+        reconciliationQueue = new ReconciliationQueue(vertx, kind, this::reconcile, watchReconciliationMinIntervalMs, metrics);
     }
 
     @Override
@@ -139,6 +158,18 @@ public abstract class AbstractOperator<
         return kind;
     }
 
+    /**
+     * Queues the reconciliation, so that the periodic reconciliations and the reconciliations triggered by the watch
+     * wait for any running reconciliation of the same resource instead of failing to acquire its lock.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation covering this request.
+     */
+    @Override
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        return reconciliationQueue.enqueue(reconciliation);
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
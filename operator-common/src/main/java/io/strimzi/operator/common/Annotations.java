@@ -38,6 +38,12 @@ public class Annotations {
     // This annotation with related possible values (approve, stop, refresh) is set by the user for interacting
     // with the rebalance operator in order to start, stop, or refresh rebalancing proposals and operations.
     public static final String ANNO_STRIMZI_IO_REBALANCE = STRIMZI_DOMAIN + "rebalance";
+
+    /**
+     * Hash of the desired state of a resource, as last applied by the operator.
+     * Used to skip patches which would not change the resource.
+     */
+    public static final String ANNO_STRIMZI_IO_DESIRED_STATE_HASH = STRIMZI_DOMAIN + "desired-state-hash";
     @Deprecated
     public static final String ANNO_OP_STRIMZI_IO_MANUAL_ROLLING_UPDATE = "operator." + Annotations.STRIMZI_DOMAIN + "manual-rolling-update";
 
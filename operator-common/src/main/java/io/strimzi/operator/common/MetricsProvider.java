@@ -5,11 +5,13 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Interface for providing metrics or their mocks
@@ -51,4 +53,17 @@ public interface MetricsProvider {
      * @return              AtomicInteger which represents the Gauge metric
      */
     AtomicInteger gauge(String name, String description, Tags tags);
+
+    /**
+     * Creates new Gauge type metric whose value is computed from the given object each time it is read
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param obj           Object from which the value is computed
+     * @param f             Function computing the value
+     * @param <T>           Type of the object
+     * @return              Gauge metric
+     */
+    <T> Gauge gauge(String name, String description, Tags tags, T obj, ToDoubleFunction<T> f);
 }
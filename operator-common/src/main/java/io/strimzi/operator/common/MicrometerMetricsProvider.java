@@ -12,6 +12,7 @@ import io.micrometer.core.instrument.Timer;
 import io.vertx.micrometer.backends.BackendRegistries;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Wraps creation of Micrometer metrics.
@@ -23,7 +24,16 @@ public class MicrometerMetricsProvider implements MetricsProvider {
      * Constructor of the Micrometer metrics provider
      */
     public MicrometerMetricsProvider() {
-        this.metrics = BackendRegistries.getDefaultNow();
+        this(BackendRegistries.getDefaultNow());
+    }
+
+    /**
+     * Constructor of the Micrometer metrics provider which uses the given registry instead of the Vert.x default one
+     *
+     * @param metrics   The MeterRegistry in which the metrics are registered
+     */
+    public MicrometerMetricsProvider(MeterRegistry metrics) {
+        this.metrics = metrics;
     }
 
     /**
@@ -86,4 +96,23 @@ public class MicrometerMetricsProvider implements MetricsProvider {
 
         return gauge;
     }
+
+    /**
+     * Creates new Gauge type metric whose value is computed from the given object each time it is read
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param obj           Object from which the value is computed
+     * @param f             Function computing the value
+     * @param <T>           Type of the object
+     * @return              Gauge metric
+     */
+    @Override
+    public <T> Gauge gauge(String name, String description, Tags tags, T obj, ToDoubleFunction<T> f) {
+        return Gauge.builder(name, obj, f)
+                .description(description)
+                .tags(tags)
+                .register(metrics);
+    }
 }
@@ -42,6 +42,18 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Triggers the reconciliation of the resource identified by the given reconciliation. Operators which queue
+     * the reconciliations of each resource (see {@link ReconciliationQueue}) pass it through the queue, so that it
+     * does not compete for the lock with a running reconciliation of the same resource. Other operators
+     * {@linkplain #reconcile(Reconciliation) reconcile} it straight away.
+     * @param reconciliation The resource.
+     * @return A Future which is completed once the resource has been reconciled.
+     */
+    default Future<Void> enqueue(Reconciliation reconciliation) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -67,7 +79,7 @@ public interface Operator {
 
             for (NamespaceAndName resourceRef : desiredNames) {
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(enqueue(reconciliation));
             }
             CompositeFuture.join(futures).map((Void) null).onComplete(handler);
         } else {
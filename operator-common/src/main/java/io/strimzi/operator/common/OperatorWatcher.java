@@ -14,6 +14,8 @@ import java.util.function.Consumer;
 
 /**
  * The fabric8 Watcher used to trigger reconciliation of an {@link Operator}.
+ * The reconciliations are passed through {@link Operator#enqueue(Reconciliation)}, so that repeated events for the same
+ * resource are merged instead of waiting for the lock of the resource.
  * @param <T> The resource type
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
@@ -38,7 +40,7 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 log.info("{}: {} {} in namespace {} was {}", reconciliation, operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+                operator.enqueue(reconciliation);
                 break;
             case ERROR:
                 log.error("Failed {} {} in namespace{} ", operator.kind(), name, namespace);
@@ -0,0 +1,223 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Queues the reconciliations triggered by the watches and by the periodic reconciliation, so that at most one reconciliation of any given resource is
+ * running and at most one more is waiting for it.
+ *
+ * <ul>
+ * <li>When a reconciliation is queued for a resource which is not being reconciled, it is started straight away.
+ * <li>When a reconciliation is queued for a resource which is being reconciled, it is kept as pending and started
+ *     once the running reconciliation completes.
+ * <li>When a reconciliation is queued for a resource which already has a pending reconciliation, the two are merged
+ *     into one. The merged reconciliation uses the latest trigger.
+ * </ul>
+ *
+ * Optionally, the queue waits for a minimum interval after a reconciliation of a resource completed before it starts
+ * the next reconciliation of the same resource. This limits the rate at which a burst of changes to the same resource
+ * is reconciled.
+ */
+public class ReconciliationQueue {
+    private static final Logger log = LogManager.getLogger(ReconciliationQueue.class);
+
+    private static class Entry {
+        private final NamespaceAndName key;
+        private Reconciliation pending;
+        private List<Promise<Void>> waiters = new ArrayList<>();
+        private long queuedAt;
+        private boolean running;
+        private boolean delayed;
+
+        Entry(NamespaceAndName key) {
+            this.key = key;
+        }
+    }
+
+    private final Vertx vertx;
+    private final Function<Reconciliation, Future<Void>> reconciler;
+    private final long minIntervalMs;
+    private final Map<NamespaceAndName, Entry> entries = new HashMap<>();
+
+    private final AtomicInteger queuedGauge;
+    private final Counter coalescedCounter;
+    private final Timer queueTimer;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance used for the rate limiting timers
+     * @param kind              Kind of the resources which are reconciled (used for the metrics)
+     * @param reconciler        Function which runs the reconciliation
+     * @param minIntervalMs     Minimum interval in milliseconds between the end of a reconciliation of a resource
+     *                          and the start of the next reconciliation of the same resource, or 0 to not limit the rate
+     * @param metrics           Metrics provider used to publish the queue metrics, or null
+     */
+    public ReconciliationQueue(Vertx vertx, String kind, Function<Reconciliation, Future<Void>> reconciler, long minIntervalMs, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.reconciler = reconciler;
+        this.minIntervalMs = minIntervalMs;
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", kind));
+
+            queuedGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queued",
+                    "Number of reconciliations waiting for a running reconciliation of the same resource to complete",
+                    metricTags);
+            coalescedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.coalesced",
+                    "Number of reconciliations merged into a reconciliation which was already queued for the same resource",
+                    metricTags);
+            queueTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.duration",
+                    "The time reconciliations wait in the queue before they are started",
+                    metricTags);
+        } else {
+            queuedGauge = new AtomicInteger();
+            coalescedCounter = null;
+            queueTimer = null;
+        }
+    }
+
+    /**
+     * Queues a reconciliation.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation which covers this request. When the
+     *          reconciliation was merged with another one, this is the result of the merged reconciliation.
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        Promise<Void> result = Promise.promise();
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Entry toStart = null;
+
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(key, Entry::new);
+
+            if (entry.pending == null) {
+                entry.queuedAt = System.nanoTime();
+                queuedGauge.incrementAndGet();
+            } else {
+                log.debug("{}: Merged with already queued reconciliation {}", reconciliation, entry.pending);
+                if (coalescedCounter != null) {
+                    coalescedCounter.increment();
+                }
+            }
+
+            entry.pending = reconciliation;
+            entry.waiters.add(result);
+
+            if (!entry.running && !entry.delayed) {
+                toStart = entry;
+            } else {
+                log.debug("{}: Reconciliation queued until the previous reconciliation completes", reconciliation);
+            }
+        }
+
+        if (toStart != null) {
+            start(toStart);
+        }
+
+        return result.future();
+    }
+
+    /**
+     * @return  The number of resources which are being reconciled or have a queued reconciliation
+     */
+    /*test*/ synchronized int size() {
+        return entries.size();
+    }
+
+    private void start(Entry entry) {
+        Reconciliation reconciliation;
+        List<Promise<Void>> waiters;
+
+        synchronized (this) {
+            reconciliation = entry.pending;
+            waiters = entry.waiters;
+
+            entry.pending = null;
+            entry.waiters = new ArrayList<>();
+            entry.running = true;
+            queuedGauge.decrementAndGet();
+
+            if (queueTimer != null) {
+                queueTimer.record(System.nanoTime() - entry.queuedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        Future<Void> reconcileFuture;
+        try {
+            reconcileFuture = reconciler.apply(reconciliation);
+        } catch (Throwable t) {
+            reconcileFuture = Future.failedFuture(t);
+        }
+
+        reconcileFuture.onComplete(res -> {
+            finished(entry);
+
+            for (Promise<Void> waiter : waiters) {
+                waiter.handle(res);
+            }
+        });
+    }
+
+    private void finished(Entry entry) {
+        boolean startNext = false;
+
+        synchronized (this) {
+            entry.running = false;
+
+            if (minIntervalMs > 0) {
+                entry.delayed = true;
+                vertx.setTimer(minIntervalMs, id -> delayElapsed(entry));
+            } else if (entry.pending != null) {
+                startNext = true;
+            } else {
+                entries.remove(entry.key);
+            }
+        }
+
+        if (startNext) {
+            start(entry);
+        }
+    }
+
+    private void delayElapsed(Entry entry) {
+        boolean startNext = false;
+
+        synchronized (this) {
+            entry.delayed = false;
+
+            if (entry.pending != null) {
+                startNext = true;
+            } else {
+                entries.remove(entry.key);
+            }
+        }
+
+        if (startNext) {
+            start(entry);
+        }
+    }
+}
@@ -8,15 +8,21 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ResourceVisitor {
 
@@ -66,6 +72,16 @@ public class ResourceVisitor {
          * @param object The object
          */
         void visitObject(List<String> path, Object object);
+
+        /**
+         * Called before visiting an object reachable from the resource, to find out whether the object needs to be
+         * visited. When it does not, neither the object nor any of the objects reachable from it are visited.
+         * @param type The class of the object.
+         * @return True to visit the object, false to skip it.
+         */
+        default boolean visitsType(Class<?> type) {
+            return true;
+        }
     }
 
     public static <T extends HasMetadata> void visit(T resource, Visitor visitor) {
@@ -83,34 +99,17 @@ public class ResourceVisitor {
     }
 
     private static void visit(List<String> path, Object resource, Visitor visitor) throws ReflectiveOperationException {
-        Class<?> cls = resource.getClass();
+        ClassProperties properties = ClassProperties.of(resource.getClass());
         visitor.visitObject(path, resource);
-        for (Field field : cls.getFields()) {
-            Object propertyValue = field.get(resource);
-            visitor.visitFieldProperty(path, resource, field, FIELD_PROPERTY, propertyValue);
-            visitProperty(path, field, FIELD_PROPERTY, propertyValue, visitor);
+        for (PropertyAccessor<Field> accessor : properties.fields) {
+            Object propertyValue = accessor.get(resource);
+            visitor.visitFieldProperty(path, resource, accessor.member, FIELD_PROPERTY, propertyValue);
+            visitProperty(path, accessor, propertyValue, visitor);
         }
-        for (Method method : cls.getMethods()) {
-            String name = method.getName();
-            if (!"getClass".equals(name)) {
-                Property<Method> property = null;
-                if (name.length() > 3
-                        && name.startsWith("get")
-                        && !method.getReturnType().equals(Void.class)
-                        && method.getParameterCount() == 0) {
-                    property = GET_METHOD_PROPERTY;
-                } else if (name.length() > 2
-                        && name.startsWith("is")
-                        && method.getReturnType().equals(boolean.class)
-                        && method.getParameterCount() == 0) {
-                    property = IS_METHOD_PROPERTY;
-                }
-                if (property != null) {
-                    Object propertyValue = method.invoke(resource);
-                    visitor.visitMethodProperty(path, resource, method, property, propertyValue);
-                    visitProperty(path, method, property, propertyValue, visitor);
-                }
-            }
+        for (PropertyAccessor<Method> accessor : properties.methods) {
+            Object propertyValue = accessor.get(resource);
+            visitor.visitMethodProperty(path, resource, accessor.member, accessor.property, propertyValue);
+            visitProperty(path, accessor, propertyValue, visitor);
         }
     }
 
@@ -128,37 +127,146 @@ public class ResourceVisitor {
                 || isFloat;
     }
 
-    static <M extends AnnotatedElement & Member> void visitProperty(List<String> path, M member,
-                                                                    Property<M> property, Object propertyValue,
-                                                                    Visitor visitor)
+    private static void visitProperty(List<String> path, PropertyAccessor<?> accessor, Object propertyValue, Visitor visitor)
             throws ReflectiveOperationException {
-        String propertyName = property.propertyName(member);
-        Class<?> returnType = property.type(member);
         if (propertyValue != null) {
-            if (returnType.isArray()) {
-                path.add(propertyName);
-                if (propertyValue instanceof Object[]) {
-                    for (Object element : (Object[]) propertyValue) {
-                        visit(path, element, visitor);
+            switch (accessor.kind) {
+                case ARRAY:
+                    // An array of primitives has no further objects to visit
+                    if (propertyValue instanceof Object[]) {
+                        path.add(accessor.propertyName);
+                        for (Object element : (Object[]) propertyValue) {
+                            visitChild(path, element, visitor);
+                        }
+                        path.remove(path.size() - 1);
                     }
-                }
-                // otherwise it's an array of primitives, in which case there are not further objects to visit
-                path.remove(path.size() - 1);
-            } else if (Collection.class.isAssignableFrom(returnType)) {
-                path.add(propertyName);
-                for (Object element : (Collection<?>) propertyValue) {
-                    if (element != null) {
-                        visit(path, element, visitor);
+                    break;
+                case COLLECTION:
+                    path.add(accessor.propertyName);
+                    for (Object element : (Collection<?>) propertyValue) {
+                        visitChild(path, element, visitor);
                     }
+                    path.remove(path.size() - 1);
+                    break;
+                case OBJECT:
+                    path.add(accessor.propertyName);
+                    visitChild(path, propertyValue, visitor);
+                    path.remove(path.size() - 1);
+                    break;
+                default:
+                    // Scalars, enums and maps are not visited
+                    break;
+            }
+        }
+    }
+
+    private static void visitChild(List<String> path, Object child, Visitor visitor) throws ReflectiveOperationException {
+        if (child != null && visitor.visitsType(child.getClass())) {
+            visit(path, child, visitor);
+        }
+    }
+
+    private enum Kind {
+        ARRAY, COLLECTION, OBJECT, NONE
+    }
+
+    /**
+     * A property of a class together with everything needed to visit it, computed once per class: the name of the
+     * property, whether its value needs to be visited and a method handle for getting its value.
+     */
+    private static class PropertyAccessor<M extends AnnotatedElement & Member> {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final M member;
+        private final Property<M> property;
+        private final String propertyName;
+        private final Kind kind;
+        private final MethodHandle getter;
+
+        PropertyAccessor(M member, Property<M> property, MethodHandle getter) {
+            this.member = member;
+            this.property = property;
+            this.propertyName = property.propertyName(member);
+            this.kind = kind(property.type(member));
+            if (Modifier.isStatic(member.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            this.getter = getter.asType(GETTER_TYPE);
+        }
+
+        private static Kind kind(Class<?> type) {
+            if (type.isArray()) {
+                return Kind.ARRAY;
+            } else if (Collection.class.isAssignableFrom(type)) {
+                return Kind.COLLECTION;
+            } else if (!isScalar(type)
+                    && !Map.class.isAssignableFrom(type)
+                    && !type.isEnum()) {
+                return Kind.OBJECT;
+            } else {
+                return Kind.NONE;
+            }
+        }
+
+        Object get(Object owner) throws ReflectiveOperationException {
+            try {
+                return (Object) getter.invokeExact(owner);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    /**
+     * The visited properties of a class. They are looked up with reflection only the first time an instance of the
+     * class is visited.
+     */
+    private static class ClassProperties {
+        private static final Map<Class<?>, ClassProperties> CACHE = new ConcurrentHashMap<>();
+
+        private final List<PropertyAccessor<Field>> fields = new ArrayList<>();
+        private final List<PropertyAccessor<Method>> methods = new ArrayList<>();
+
+        private ClassProperties(Class<?> cls) throws IllegalAccessException {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (Field field : cls.getFields()) {
+                fields.add(new PropertyAccessor<>(field, FIELD_PROPERTY, lookup.unreflectGetter(field)));
+            }
+            for (Method method : cls.getMethods()) {
+                Property<Method> property = methodProperty(method);
+                if (property != null) {
+                    methods.add(new PropertyAccessor<>(method, property, lookup.unreflect(method)));
+                }
+            }
+        }
+
+        static ClassProperties of(Class<?> cls) throws IllegalAccessException {
+            ClassProperties properties = CACHE.get(cls);
+            if (properties == null) {
+                properties = new ClassProperties(cls);
+                CACHE.putIfAbsent(cls, properties);
+            }
+            return properties;
+        }
+
+        private static Property<Method> methodProperty(Method method) {
+            String name = method.getName();
+            if (!"getClass".equals(name)) {
+                if (name.length() > 3
+                        && name.startsWith("get")
+                        && !method.getReturnType().equals(Void.class)
+                        && method.getParameterCount() == 0) {
+                    return GET_METHOD_PROPERTY;
+                } else if (name.length() > 2
+                        && name.startsWith("is")
+                        && method.getReturnType().equals(boolean.class)
+                        && method.getParameterCount() == 0) {
+                    return IS_METHOD_PROPERTY;
                 }
-                path.remove(path.size() - 1);
-            } else if (!isScalar(returnType)
-                    && !Map.class.isAssignableFrom(returnType)
-                    && !returnType.isEnum()) {
-                path.add(propertyName);
-                visit(path, propertyValue, visitor);
-                path.remove(path.size() - 1);
             }
+            return null;
         }
     }
 
@@ -21,6 +21,10 @@ import java.util.Map;
 import java.util.Set;
 
 public class ValidationVisitor implements ResourceVisitor.Visitor {
+    // Only the Strimzi API classes are annotated as deprecated or preserve unknown properties, and they are never
+    // reachable from the Kubernetes API classes (such as ObjectMeta or Affinity) used in the Strimzi API
+    private static final String STRIMZI_API_PACKAGE = "io.strimzi.api.";
+
     private final Logger logger;
     private final HasMetadata resource;
     private final Set<Condition> warningConditions;
@@ -141,4 +145,9 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
             }
         }
     }
+
+    @Override
+    public boolean visitsType(Class<?> type) {
+        return type.getName().startsWith(STRIMZI_API_PACKAGE);
+    }
 }
@@ -7,11 +7,18 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.internal.readiness.Readiness;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.function.Predicate;
+
 /**
  * Specializes {@link AbstractResourceOperator} for resources which also have a notion
  * of being "ready".
@@ -37,10 +44,83 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
         super(vertx, client, resourceKind);
     }
 
+    /**
+     * The interval at which a resource is polled while a watch for its readiness is open. The watch completes the wait
+     * as soon as the resource gets ready, so the polling only covers watch events which got lost.
+     */
+    protected static final long WATCHED_POLL_INTERVAL_MS = 10_000;
+
     public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
         return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isReady);
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * is ready. The resource is watched and the future completes as soon as a watch event shows the resource
+     * as {@code ready}. While the watch is open, the resource is also polled every {@link #WATCHED_POLL_INTERVAL_MS}
+     * (or {@code pollIntervalMs} if longer). If the watch cannot be opened, the resource is polled every
+     * {@code pollIntervalMs} like in {@link #readiness(String, String, long, long)}.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds when the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param ready Determines whether the resource received in a watch event is ready.
+     * @return A future that completes when the resource is ready.
+     */
+    protected Future<Void> watchReadiness(String namespace, String name, long pollIntervalMs, long timeoutMs, Predicate<T> ready) {
+        Context context = vertx.getOrCreateContext();
+        Promise<Void> readyPromise = Promise.promise();
+
+        Watcher<T> watcher = new Watcher<T>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                try {
+                    if (resource != null && (action == Action.ADDED || action == Action.MODIFIED) && ready.test(resource)) {
+                        log.debug("{} {} in namespace {} is ready according to watch", resourceKind, name, namespace);
+                        context.runOnContext(ignored -> readyPromise.tryComplete());
+                    }
+                } catch (Throwable t) {
+                    log.debug("Ignoring error while checking readiness of {} {} in namespace {}", resourceKind, name, namespace, t);
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                if (cause != null) {
+                    log.debug("Readiness watch of {} {} in namespace {} closed, waiting for the next poll", resourceKind, name, namespace, cause);
+                }
+            }
+        };
+
+        return resourceSupport.<Watch>executeBlocking(future -> {
+            try {
+                future.complete(operation().inNamespace(namespace).withName(name).watch(watcher));
+            } catch (Throwable t) {
+                log.debug("Could not watch {} {} in namespace {}, polling it for readiness instead", resourceKind, name, namespace, t);
+                future.complete(null);
+            }
+        }).compose(watch -> {
+            long interval = watch != null ? Math.max(pollIntervalMs, WATCHED_POLL_INTERVAL_MS) : pollIntervalMs;
+            waitFor(namespace, name, interval, timeoutMs, (ns, n) -> readyPromise.future().isComplete() || isReady(ns, n))
+                    .onComplete(res -> {
+                        if (res.succeeded()) {
+                            readyPromise.tryComplete();
+                        } else {
+                            readyPromise.tryFail(res.cause());
+                        }
+                    });
+
+            // Close the watch before completing, so callers don't see it still open after the wait is over
+            Promise<Void> result = Promise.promise();
+            readyPromise.future().onComplete(res -> {
+                Future<Void> closeFuture = watch != null ? resourceSupport.closeOnWorkerThread(watch) : Future.succeededFuture();
+                closeFuture.onComplete(ignored -> result.handle(res));
+            });
+            return result.future();
+        });
+    }
+
     /**
      * Check if a resource is in the Ready state.
      *
@@ -4,10 +4,16 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
@@ -15,6 +21,9 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
@@ -24,10 +33,14 @@ import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 
 /**
@@ -44,11 +57,33 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         L extends KubernetesResourceList<T>,
         R extends Resource<T>> {
 
+    /**
+     * Serializes resources in a stable way, for computing the hash of their desired state.
+     */
+    private static final ObjectMapper HASH_MAPPER = Serialization.jsonMapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private static final int MAX_LAST_APPLIED_VERSIONS = 10_000;
+
     protected final Logger log = LogManager.getLogger(getClass());
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private volatile ResourceCache<T> cache;
+
+    /**
+     * Versions (see {@link #appliedVersion(HasMetadata)}) of the resources as this operator left them after it last
+     * created or patched them, keyed by UID. A resource deleted by the garbage collector or by a user and then
+     * recreated with the same name has a different UID, so it cannot be mistaken for the old one, and the entries
+     * of the deleted resources are eventually evicted as the least recently used ones.
+     */
+    private final Map<String, String> lastAppliedVersions = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_LAST_APPLIED_VERSIONS;
+        }
+    });
 
     /**
      * Constructor.
@@ -65,6 +100,59 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Enables an informer-backed cache for the reads done by this operator. Only resources with the
+     * {@link Labels#STRIMZI_KIND_LABEL} label are cached; reads of other resources, or of resources which the cache
+     * hasn't caught up with yet, go to the Kubernetes API server as before.
+     *
+     * @param resourceClass The class of the resource.
+     * @param namespaces The namespaces to cache, which can contain {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}.
+     * @param resyncIntervalMs The resync interval of the cache.
+     * @param metrics The metrics provider, or null.
+     */
+    public void enableCache(Class<T> resourceClass, Set<String> namespaces, long resyncIntervalMs, MetricsProvider metrics) {
+        Map<String, FilterWatchListDeletable<T, L>> operations = new HashMap<>(namespaces.size());
+        if (namespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE)) {
+            operations.put(AbstractWatchableResourceOperator.ANY_NAMESPACE, operation().inAnyNamespace());
+        } else {
+            for (String namespace : namespaces) {
+                operations.put(namespace, operation().inNamespace(namespace));
+            }
+        }
+        ResourceCache<T> cache = ResourceCache.create(resourceClass, resourceKind, Labels.STRIMZI_KIND_LABEL, operations, resyncIntervalMs, metrics);
+        cache.start();
+        this.cache = cache;
+    }
+
+    /**
+     * Stops the cache, if it has been {@linkplain #enableCache(Class, Set, long, MetricsProvider) enabled}.
+     */
+    public void disableCache() {
+        ResourceCache<T> cache = this.cache;
+        this.cache = null;
+        if (cache != null) {
+            cache.stop();
+        }
+    }
+
+    /**
+     * @return The resource with the given name in the given namespace, from the cache if possible,
+     * or null if it doesn't exist.
+     */
+    private T cachedOrGet(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+        T cached = cache != null ? cache.get(namespace, name) : null;
+        return cached != null ? cached : operation().inNamespace(namespace).withName(name).get();
+    }
+
+    /**
+     * @return The matching resources from the cache, or null if the cache is disabled or cannot answer the read.
+     */
+    private List<T> cachedList(String namespace, Labels selector) {
+        ResourceCache<T> cache = this.cache;
+        return cache != null ? cache.list(namespace, selector) : null;
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -97,20 +185,20 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                T current = cachedOrGet(namespace, name);
                 if (desired != null) {
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(namespace, name, desired).onComplete(future);
+                        internalCreate(namespace, name, desired).onSuccess(result -> written(namespace, name, result)).onComplete(future);
                     } else {
                         log.debug("{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(namespace, name, current, desired).onComplete(future);
+                        internalPatch(namespace, name, current, desired).onSuccess(result -> written(namespace, name, result)).onComplete(future);
                     }
                 } else {
                     if (current != null) {
                         // Deletion is desired
                         log.debug("{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(namespace, name).onComplete(future);
+                        internalDelete(namespace, name).onSuccess(result -> written(namespace, name, result)).onComplete(future);
                     } else {
                         log.debug("{} {}/{} does not exist, noop", resourceKind, namespace, name);
                         future.complete(ReconcileResult.noop(null));
@@ -124,6 +212,13 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return promise.future();
     }
 
+    private void written(String namespace, String name, ReconcileResult<T> result) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            cache.written(namespace, name, result.resourceOpt().orElse(null));
+        }
+    }
+
     /**
      * Deletes the resource with the given namespace and name and completes the given future accordingly.
      * This method will do a cascading delete.
@@ -184,7 +279,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     protected Future<ReconcileResult<T>> internalPatch(String namespace, String name, T current, T desired, boolean cascading) {
         try {
+            if (skipUnchangedPatches()) {
+                desired = withDesiredStateHash(desired);
+                if (isUnchangedSinceLastApplied(current, desiredStateHash(desired))) {
+                    log.debug("{} {} in namespace {} has not been patched because its desired state has not changed", resourceKind, name, namespace);
+                    return Future.succeededFuture(ReconcileResult.noop(current));
+                }
+            }
             T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(desired);
+            recordApplied(result);
             log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
             return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
         } catch (Exception e) {
@@ -193,6 +296,93 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
     }
 
+    /**
+     * Whether patches which would not change the resource are skipped. When this returns true, the resources created
+     * and patched by this operator are annotated with a hash of their desired state, and a patch is skipped when the
+     * current resource already has the hash of the new desired state and has not been modified since this operator
+     * last created or patched it.
+     * Operators of resources which are not generated by the operators (e.g. custom resources) should return false.
+     *
+     * @return True if unnecessary patches should be skipped.
+     */
+    protected boolean skipUnchangedPatches() {
+        return true;
+    }
+
+    /**
+     * Whether the resources have a status subresource, so that updates of their status by Kubernetes change their
+     * resource version but not their generation.
+     *
+     * @return True if the generation, rather than the resource version, tells whether the resource has been modified.
+     */
+    protected boolean hasStatusSubresource() {
+        return false;
+    }
+
+    /**
+     * Returns a copy of the given resource with the {@link Annotations#ANNO_STRIMZI_IO_DESIRED_STATE_HASH} annotation
+     * set to the hash of the rest of the resource. The given resource is not modified.
+     *
+     * @param desired The desired resource.
+     * @return The copy.
+     */
+    @SuppressWarnings("unchecked")
+    private T withDesiredStateHash(T desired) {
+        try {
+            ObjectNode json = HASH_MAPPER.valueToTree(desired);
+            JsonNode annotations = json.path("metadata").path("annotations");
+            if (annotations.isObject()) {
+                ((ObjectNode) annotations).remove(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH);
+            }
+            String hash = Util.stringHash(HASH_MAPPER.writeValueAsString(json));
+            json.with("metadata").with("annotations").put(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, hash);
+            return (T) HASH_MAPPER.treeToValue(json, desired.getClass());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + resourceKind + " " + desired.getMetadata().getName(), e);
+        }
+    }
+
+    private static String desiredStateHash(HasMetadata resource) {
+        Map<String, String> annotations = resource.getMetadata() != null ? resource.getMetadata().getAnnotations() : null;
+        return annotations != null ? annotations.get(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH) : null;
+    }
+
+    /**
+     * The version of a resource, which changes whenever the resource is modified. This is the resource version, except
+     * for the resources with a {@linkplain #hasStatusSubresource() status subresource}, for which it is the generation
+     * together with the metadata that does not increment the generation when modified.
+     */
+    private String appliedVersion(T resource) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (hasStatusSubresource() && metadata.getGeneration() != null) {
+            return metadata.getGeneration() + ":" + Objects.hash(metadata.getLabels(), metadata.getAnnotations(), metadata.getOwnerReferences());
+        }
+        return metadata.getResourceVersion();
+    }
+
+    /**
+     * @return True if the current resource has the given desired state hash and is still in the version this operator
+     * left it in when it last created or patched it.
+     */
+    private boolean isUnchangedSinceLastApplied(T current, String hash) {
+        if (current == null || current.getMetadata() == null || current.getMetadata().getUid() == null) {
+            return false;
+        }
+        String lastAppliedVersion = lastAppliedVersions.get(current.getMetadata().getUid());
+        return lastAppliedVersion != null
+                && lastAppliedVersion.equals(appliedVersion(current))
+                && Objects.equals(hash, desiredStateHash(current));
+    }
+
+    private void recordApplied(T result) {
+        if (result != null && result.getMetadata() != null && result.getMetadata().getUid() != null) {
+            String version = appliedVersion(result);
+            if (version != null) {
+                lastAppliedVersions.put(result.getMetadata().getUid(), version);
+            }
+        }
+    }
+
     protected boolean wasChanged(T oldVersion, T newVersion) {
         if (oldVersion != null
                 && oldVersion.getMetadata() != null
@@ -210,7 +400,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      */
     protected Future<ReconcileResult<T>> internalCreate(String namespace, String name, T desired) {
         try {
-            ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).withName(name).create(desired));
+            if (skipUnchangedPatches()) {
+                desired = withDesiredStateHash(desired);
+            }
+            T created = operation().inNamespace(namespace).withName(name).create(desired);
+            recordApplied(created);
+            ReconcileResult<T> result = ReconcileResult.created(created);
             log.debug("{} {} in namespace {} has been created", resourceKind, name, namespace);
             return Future.succeededFuture(result);
         } catch (Exception e) {
@@ -229,7 +424,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return cachedOrGet(namespace, name);
     }
 
     /**
@@ -242,6 +437,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+        ResourceCache<T> cache = this.cache;
+        T cached = cache != null ? cache.get(namespace, name) : null;
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -252,7 +452,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
-        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+        List<T> cached = cachedList(namespace, selector);
+        if (cached != null) {
+            return cached;
+        } else if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
             return listInNamespace(namespace, selector);
@@ -299,6 +502,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        List<T> cached = cachedList(namespace, selector);
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -48,6 +48,11 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
         super(vertx, client, resourceKind);
     }
 
+    @Override
+    protected boolean hasStatusSubresource() {
+        return true;
+    }
+
     private R resource(String namespace, String name) {
         return operation().inNamespace(namespace).withName(name);
     }
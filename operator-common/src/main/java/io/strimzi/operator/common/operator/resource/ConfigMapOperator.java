@@ -9,9 +9,11 @@ import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Annotations;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -39,7 +41,7 @@ public class ConfigMapOperator extends AbstractResourceOperator<KubernetesClient
             if (compareObjects(current.getData(), desired.getData())
                     && compareObjects(current.getMetadata().getName(), desired.getMetadata().getName())
                     && compareObjects(current.getMetadata().getNamespace(), desired.getMetadata().getNamespace())
-                    && compareObjects(current.getMetadata().getAnnotations(), desired.getMetadata().getAnnotations())
+                    && compareObjects(annotationsWithoutDesiredStateHash(current), desired.getMetadata().getAnnotations())
                     && compareObjects(current.getMetadata().getLabels(), desired.getMetadata().getLabels())) {
                 // Checking some metadata. We cannot check entire metadata object because it contains
                 // timestamps which would cause restarting loop
@@ -54,6 +56,20 @@ public class ConfigMapOperator extends AbstractResourceOperator<KubernetesClient
         }
     }
 
+    /**
+     * @return The annotations of the ConfigMap, without the desired state hash which is only set on the patched
+     * ConfigMap and not on the desired one.
+     */
+    private static Map<String, String> annotationsWithoutDesiredStateHash(ConfigMap configMap) {
+        Map<String, String> annotations = configMap.getMetadata().getAnnotations();
+        if (annotations == null || !annotations.containsKey(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH)) {
+            return annotations;
+        }
+        Map<String, String> withoutHash = new HashMap<>(annotations);
+        withoutHash.remove(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH);
+        return withoutHash.isEmpty() ? null : withoutHash;
+    }
+
     private boolean compareObjects(Object a, Object b) {
         if (a == null && b instanceof Map && ((Map) b).size() == 0)
             return true;
@@ -50,6 +50,16 @@ public class CrdOperator<C extends KubernetesClient,
         return client.customResources(CustomResourceDefinitionContext.fromCrd(crd), cls, listCls);
     }
 
+    /**
+     * Custom resources are owned by the users, so they are not annotated with the desired state hash.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean skipUnchangedPatches() {
+        return false;
+    }
+
     /**
      * The selfClosingWatch does not work for Custom Resources. Therefore we override the method and delete custom
      * resources without it.
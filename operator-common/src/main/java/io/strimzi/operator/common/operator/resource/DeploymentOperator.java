@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.apps.DeploymentList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
@@ -41,6 +42,21 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
         return client.apps().deployments();
     }
 
+    /**
+     * Returns a future that completes when the Deployment identified by the given {@code namespace} and {@code name}
+     * is ready. The Deployment is watched, so the future completes as soon as its status shows it as ready.
+     *
+     * @param namespace The namespace.
+     * @param name The Deployment name.
+     * @param pollIntervalMs The poll interval in milliseconds when the Deployment cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return A future that completes when the Deployment is ready.
+     */
+    @Override
+    public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
+        return watchReadiness(namespace, name, pollIntervalMs, timeoutMs, Readiness::isDeploymentReady);
+    }
+
     @Override
     protected Integer currentScale(String namespace, String name) {
         Deployment deployment = get(namespace, name);
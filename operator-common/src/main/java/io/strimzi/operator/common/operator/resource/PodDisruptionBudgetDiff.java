@@ -6,12 +6,10 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
-import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.common.Annotations;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.regex.Pattern;
-
 import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
 
 class PodDisruptionBudgetDiff extends AbstractResourceDiff  {
@@ -19,36 +17,30 @@ class PodDisruptionBudgetDiff extends AbstractResourceDiff  {
 
     private final boolean isEmpty;
 
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/status)$");
+    private static final StructuralDiff DIFF = new StructuralDiff(
+            "/metadata/managedFields/**",
+            "/metadata/annotations/" + StructuralDiff.escape(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH),
+            "/status/**");
 
     public PodDisruptionBudgetDiff(PodDisruptionBudget current, PodDisruptionBudget desired) {
         JsonNode source = patchMapper().valueToTree(current == null ? "{}" : current);
         JsonNode target = patchMapper().valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                log.debug("Ignoring PodDisruptionBudget diff {}", d);
-                continue;
-            }
+        boolean[] differs = {false};
 
+        // Only whether there is any difference matters, so the walk stops at the first one
+        DIFF.walk(source, target, (pathValue, currentValue, desiredValue) -> {
             if (log.isDebugEnabled()) {
-                log.debug("PodDisruptionBudget differs: {}", d);
-                log.debug("Current PodDisruptionBudget path {} has value {}", pathValue, lookupPath(source, pathValue));
-                log.debug("Desired PodDisruptionBudget path {} has value {}", pathValue, lookupPath(target, pathValue));
+                log.debug("PodDisruptionBudget differs: {}", pathValue);
+                log.debug("Current PodDisruptionBudget path {} has value {}", pathValue, currentValue);
+                log.debug("Desired PodDisruptionBudget path {} has value {}", pathValue, desiredValue);
             }
 
-            num++;
-            break;
-        }
+            differs[0] = true;
+            return false;
+        });
 
-        this.isEmpty = num == 0;
+        this.isEmpty = !differs[0];
     }
 
     @Override
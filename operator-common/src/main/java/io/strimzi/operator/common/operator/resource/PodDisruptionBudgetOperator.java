@@ -24,6 +24,11 @@ public class PodDisruptionBudgetOperator extends AbstractResourceOperator<Kubern
         return client.policy().podDisruptionBudget();
     }
 
+    @Override
+    protected boolean hasStatusSubresource() {
+        return true;
+    }
+
     @Override
     protected Future<ReconcileResult<PodDisruptionBudget>> internalPatch(String namespace, String name, PodDisruptionBudget current, PodDisruptionBudget desired, boolean cascading) {
         PodDisruptionBudgetDiff diff = new PodDisruptionBudgetDiff(current, desired);
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -38,6 +39,21 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         return client.pods();
     }
 
+    /**
+     * Returns a future that completes when the pod identified by the given {@code namespace} and {@code name}
+     * is ready. The pod is watched, so the future completes as soon as its Ready condition becomes true.
+     *
+     * @param namespace The namespace.
+     * @param name The pod name.
+     * @param pollIntervalMs The poll interval in milliseconds when the pod cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return A future that completes when the pod is ready.
+     */
+    @Override
+    public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
+        return watchReadiness(namespace, name, pollIntervalMs, timeoutMs, Readiness::isPodReady);
+    }
+
     /**
      * Watch the pod identified by the given {@code namespace} and {@code name} using the given {@code watcher}.
      * @param namespace The namespace
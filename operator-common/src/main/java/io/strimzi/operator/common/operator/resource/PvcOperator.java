@@ -30,6 +30,11 @@ public class PvcOperator extends AbstractResourceOperator<KubernetesClient, Pers
         return client.persistentVolumeClaims();
     }
 
+    @Override
+    protected boolean hasStatusSubresource() {
+        return true;
+    }
+
     /**
      * Patches the resource with the given namespace and name to match the given desired resource
      * and completes the given future accordingly.
@@ -0,0 +1,324 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * An informer-backed cache of the resources of a single kind, which {@link AbstractResourceOperator} reads from
+ * instead of querying the Kubernetes API server each time.
+ *
+ * The cache only holds resources which have the {@link #scopeLabel} label, so that the operator doesn't have to keep
+ * in memory e.g. every Secret in the cluster. Reads of anything which is not (yet) in the cache are answered with a
+ * {@code null}, which callers treat as a cache miss and fall back to a direct GET. Writes done by the operator are
+ * recorded so that the cache is bypassed for the written resource until the informer has observed the write.
+ * Reads return copies of the cached resources.
+ *
+ * @param <T> The Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata> {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResourceCache.class);
+
+    /**
+     * The resource version recorded for a resource which the operator has deleted.
+     */
+    private static final String DELETED = "";
+
+    private final String resourceKind;
+    private final String scopeLabel;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final long pendingWriteTimeoutMs;
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private volatile long lastEventMs = System.currentTimeMillis();
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+
+    private static class PendingWrite {
+        private final String resourceVersion;
+        private final long writtenAtMs;
+
+        PendingWrite(String resourceVersion) {
+            this.resourceVersion = resourceVersion;
+            this.writtenAtMs = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param resourceKind The kind of resource (used for logging and metrics).
+     * @param scopeLabel The key of the label which resources must have in order to be cached.
+     * @param informers The informers, keyed by namespace, or by {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}
+     *                  when the cache covers all namespaces.
+     * @param resyncIntervalMs The resync interval of the informers. Writes which still haven't been observed by the
+     *                         informers after this long are assumed to have been superseded.
+     * @param metrics The metrics provider, or null.
+     */
+    ResourceCache(String resourceKind, String scopeLabel, Map<String, SharedIndexInformer<T>> informers, long resyncIntervalMs, MetricsProvider metrics) {
+        this.resourceKind = resourceKind;
+        this.scopeLabel = scopeLabel;
+        this.informers = informers;
+        this.pendingWriteTimeoutMs = resyncIntervalMs;
+
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.addEventHandler(new ResourceEventHandler<T>() {
+                @Override
+                public void onAdd(T obj) {
+                    observed(obj, obj.getMetadata().getResourceVersion());
+                }
+
+                @Override
+                public void onUpdate(T oldObj, T newObj) {
+                    observed(newObj, newObj.getMetadata().getResourceVersion());
+                }
+
+                @Override
+                public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                    observed(obj, DELETED);
+                }
+            });
+        }
+
+        if (metrics != null) {
+            Tags tags = Tags.of(Tag.of("kind", resourceKind));
+            hitsCounter = metrics.counter("strimzi.resource.cache.hits",
+                    "Number of reads which were answered from the resource cache", tags);
+            missesCounter = metrics.counter("strimzi.resource.cache.misses",
+                    "Number of reads which fell back to the Kubernetes API server", tags);
+            metrics.gauge("strimzi.resource.cache.staleness.seconds",
+                    "Time since the resource cache last received an event or resync", tags, this, ResourceCache::stalenessSeconds);
+        } else {
+            hitsCounter = null;
+            missesCounter = null;
+        }
+    }
+
+    /**
+     * Creates a cache whose informers list and watch the resources using the given operations.
+     *
+     * @param resourceClass The class of the resource.
+     * @param resourceKind The kind of resource (used for logging and metrics).
+     * @param scopeLabel The key of the label which resources must have in order to be cached.
+     * @param operations The operations for each of the namespaces to cache, keyed by namespace
+     *                   (or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}).
+     * @param resyncIntervalMs The resync interval of the informers.
+     * @param metrics The metrics provider, or null.
+     * @param <T> The Kubernetes resource type.
+     * @param <L> The list variant of the Kubernetes resource type.
+     * @return The cache. It needs to be {@linkplain #start() started} before it is used.
+     */
+    static <T extends HasMetadata, L extends KubernetesResourceList<T>> ResourceCache<T> create(Class<T> resourceClass,
+                                                                                                 String resourceKind,
+                                                                                                 String scopeLabel,
+                                                                                                 Map<String, FilterWatchListDeletable<T, L>> operations,
+                                                                                                 long resyncIntervalMs,
+                                                                                                 MetricsProvider metrics) {
+        Map<String, SharedIndexInformer<T>> informers = new ConcurrentHashMap<>(operations.size());
+        for (Map.Entry<String, FilterWatchListDeletable<T, L>> entry : operations.entrySet()) {
+            FilterWatchListDeletable<T, L> operation = entry.getValue().withLabel(scopeLabel);
+            ListerWatcher<T, L> listerWatcher = new ListerWatcher<T, L>() {
+                @Override
+                public Watch watch(ListOptions options, String namespace, OperationContext context, Watcher<T> watcher) {
+                    return operation.watch(options, watcher);
+                }
+
+                @Override
+                public L list(ListOptions options, String namespace, OperationContext context) {
+                    return operation.list(options);
+                }
+            };
+            informers.put(entry.getKey(), new DefaultSharedIndexInformer<>(resourceClass, listerWatcher, resyncIntervalMs,
+                    new OperationContext(), new ConcurrentLinkedQueue<>()));
+        }
+        return new ResourceCache<>(resourceKind, scopeLabel, informers, resyncIntervalMs, metrics);
+    }
+
+    /**
+     * Starts the informers.
+     */
+    public void start() {
+        LOGGER.info("Starting {} cache for namespaces {}", resourceKind, informers.keySet());
+        informers.values().forEach(SharedIndexInformer::run);
+    }
+
+    /**
+     * Stops the informers.
+     */
+    public void stop() {
+        LOGGER.info("Stopping {} cache", resourceKind);
+        informers.values().forEach(SharedIndexInformer::stop);
+    }
+
+    /**
+     * Gets the resource with the given {@code name} in the given {@code namespace} from the cache.
+     *
+     * @param namespace The namespace.
+     * @param name The name.
+     * @return The cached resource, or null if the cache cannot answer the read and the resource should be
+     * fetched from the Kubernetes API server instead.
+     */
+    public T get(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+        T resource = null;
+        if (informer != null && informer.hasSynced()) {
+            String key = key(namespace, name);
+            T cached = informer.getIndexer().getByKey(key);
+            if (isCurrent(key, cached)) {
+                resource = copy(cached);
+            }
+        }
+        if (resource != null) {
+            increment(hitsCounter);
+        } else {
+            increment(missesCounter);
+        }
+        return resource;
+    }
+
+    /**
+     * Lists the resources in the given {@code namespace} matching the given {@code selector} from the cache.
+     *
+     * @param namespace The namespace, or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}.
+     * @param selector The selector.
+     * @return The cached resources, or null if the cache cannot answer the read and the resources should be
+     * listed from the Kubernetes API server instead.
+     */
+    public List<T> list(String namespace, Labels selector) {
+        SharedIndexInformer<T> informer = informer(namespace);
+        if (informer == null
+                || !informer.hasSynced()
+                || selector == null
+                || !selector.toMap().containsKey(scopeLabel)
+                || hasPendingWrites()) {
+            increment(missesCounter);
+            return null;
+        }
+
+        Map<String, String> labels = selector.toMap();
+        List<T> result = new ArrayList<>();
+        for (T resource : informer.getIndexer().list()) {
+            if ((AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))
+                    && matches(resource, labels)) {
+                result.add(copy(resource));
+            }
+        }
+        increment(hitsCounter);
+        return result;
+    }
+
+    /**
+     * Records that the operator has written the resource with the given {@code name} in the given {@code namespace},
+     * so that the cache isn't used to read it until the informer has seen the write.
+     *
+     * @param namespace The namespace.
+     * @param name The name.
+     * @param result The resource as returned by the write, or null if the resource was deleted.
+     */
+    public void written(String namespace, String name, T result) {
+        String resourceVersion = result != null && result.getMetadata() != null ? result.getMetadata().getResourceVersion() : DELETED;
+        pendingWrites.put(key(namespace, name), new PendingWrite(resourceVersion));
+    }
+
+    /**
+     * @return The number of seconds since the cache last received an event or resync.
+     */
+    double stalenessSeconds() {
+        return (System.currentTimeMillis() - lastEventMs) / 1_000.0;
+    }
+
+    private SharedIndexInformer<T> informer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+        if (informer == null) {
+            informer = informers.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        }
+        return informer;
+    }
+
+    private void observed(T resource, String resourceVersion) {
+        lastEventMs = System.currentTimeMillis();
+        if (resource != null && resource.getMetadata() != null) {
+            String key = key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+            pendingWrites.computeIfPresent(key, (k, pending) -> Objects.equals(pending.resourceVersion, resourceVersion) ? null : pending);
+        }
+    }
+
+    /**
+     * @return True if {@code cached} reflects the latest write made by the operator (if any) of the given resource.
+     */
+    private boolean isCurrent(String key, T cached) {
+        PendingWrite pending = pendingWrites.get(key);
+        if (pending == null) {
+            return cached != null;
+        }
+        String cachedVersion = cached != null ? cached.getMetadata().getResourceVersion() : DELETED;
+        if (pending.resourceVersion.equals(cachedVersion)
+                || System.currentTimeMillis() - pending.writtenAtMs > pendingWriteTimeoutMs) {
+            pendingWrites.remove(key, pending);
+            return cached != null;
+        }
+        LOGGER.trace("{} {} has been written but the write hasn't been observed yet", resourceKind, key);
+        return false;
+    }
+
+    private boolean hasPendingWrites() {
+        pendingWrites.entrySet().removeIf(entry -> System.currentTimeMillis() - entry.getValue().writtenAtMs > pendingWriteTimeoutMs);
+        return !pendingWrites.isEmpty();
+    }
+
+    private static boolean matches(HasMetadata resource, Map<String, String> labels) {
+        Map<String, String> resourceLabels = resource.getMetadata().getLabels();
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            if (resourceLabels == null || !Objects.equals(label.getValue(), resourceLabels.get(label.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Callers are free to modify the resources they read, so they get a copy rather than the instance in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends HasMetadata> T copy(T resource) {
+        return (T) Serialization.jsonMapper().convertValue(resource, resource.getClass());
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace == null ? name : namespace + "/" + name;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
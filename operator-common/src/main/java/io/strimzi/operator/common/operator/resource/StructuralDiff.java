@@ -0,0 +1,240 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walks two JSON trees side by side and reports the paths where they differ, skipping the differences matched by a
+ * set of ignore rules.
+ *
+ * The paths are JSON pointers, the same as the paths of the operations of a JSON patch (e.g.
+ * {@code /spec/template/spec/containers/0/resources}). The differences are reported at the same paths as by
+ * {@code JsonDiff}: where a field or an array element exists only on one side, where the types of the nodes differ,
+ * or where two values differ. Array elements are compared by position.
+ *
+ * The ignore rules are JSON pointers in which a {@code *} segment matches any field name or array index. They are
+ * compiled into a trie which is walked together with the trees, so that the rules are not matched against every
+ * reported path. There are two kinds of rules:
+ * <ul>
+ *     <li>A rule like {@code /spec/template/spec/containers/*}{@code /resources} ignores a difference reported exactly
+ *     at that path (e.g. when the field was added or removed). Differences further down the tree are still reported.
+ *     <li>A rule ending with {@code /**}, like {@code /status/**}, ignores the whole subtree, which is not walked at
+ *     all.
+ * </ul>
+ */
+public class StructuralDiff {
+    private static final Logger log = LogManager.getLogger(StructuralDiff.class.getName());
+
+    private static final String ANY = "*";
+    private static final String SUBTREE = "**";
+
+    /**
+     * Handles the differences found by {@link #walk(JsonNode, JsonNode, Handler)}.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * Called for each difference which is not ignored.
+         *
+         * @param path      The path of the difference
+         * @param source    The source node at this path, or a missing node if the path exists only in the target
+         * @param target    The target node at this path, or a missing node if the path exists only in the source
+         *
+         * @return  True to continue the walk, false to stop it
+         */
+        boolean onDifference(String path, JsonNode source, JsonNode target);
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private Node any;
+        private boolean ignored;
+        private boolean subtreeIgnored;
+
+        Node child(String segment) {
+            if (ANY.equals(segment)) {
+                if (any == null) {
+                    any = new Node();
+                }
+                return any;
+            }
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Constructor
+     *
+     * @param ignoredPaths  The ignore rules
+     */
+    public StructuralDiff(String... ignoredPaths) {
+        for (String ignoredPath : ignoredPaths) {
+            if (!ignoredPath.startsWith("/")) {
+                throw new IllegalArgumentException("Ignored path " + ignoredPath + " is not a JSON pointer");
+            }
+            String[] segments = ignoredPath.substring(1).split("/", -1);
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                if (SUBTREE.equals(segments[i])) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("Ignored path " + ignoredPath + " can use " + SUBTREE + " only as the last segment");
+                    }
+                    node.subtreeIgnored = true;
+                    break;
+                }
+                node = node.child(segments[i]);
+                if (i == segments.length - 1) {
+                    node.ignored = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks the two trees and calls the handler for each difference which is not ignored.
+     *
+     * @param source    The source tree
+     * @param target    The target tree
+     * @param handler   The handler
+     */
+    public void walk(JsonNode source, JsonNode target, Handler handler) {
+        walk(source, target, new StringBuilder(), Collections.singletonList(root), handler);
+    }
+
+    /**
+     * Checks whether the two trees differ. The walk stops at the first difference which is not ignored.
+     *
+     * @param source    The source tree
+     * @param target    The target tree
+     *
+     * @return  True if there is a difference which is not ignored, false otherwise
+     */
+    public boolean differs(JsonNode source, JsonNode target) {
+        boolean[] differs = {false};
+        walk(source, target, (path, s, t) -> {
+            differs[0] = true;
+            return false;
+        });
+        return differs[0];
+    }
+
+    /**
+     * @return  False if the walk was stopped by the handler, true otherwise
+     */
+    private boolean walk(JsonNode source, JsonNode target, StringBuilder path, List<Node> nodes, Handler handler) {
+        if (source.isObject() && target.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode targetValue = target.get(field.getKey());
+                if (!walkChild(field.getValue(), targetValue != null ? targetValue : MissingNode.getInstance(),
+                        escape(field.getKey()), path, nodes, handler)) {
+                    return false;
+                }
+            }
+            fields = target.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!source.has(field.getKey())
+                        && !walkChild(MissingNode.getInstance(), field.getValue(), escape(field.getKey()), path, nodes, handler)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (source.isArray() && target.isArray()) {
+            int size = Math.max(source.size(), target.size());
+            for (int i = 0; i < size; i++) {
+                if (!walkChild(source.path(i), target.path(i), Integer.toString(i), path, nodes, handler)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (!source.equals(target)) {
+            for (Node node : nodes) {
+                if (node.ignored) {
+                    log.trace("Ignoring difference at {}", path);
+                    return true;
+                }
+            }
+            return handler.onDifference(path.length() == 0 ? "/" : path.toString(), source, target);
+        } else {
+            return true;
+        }
+    }
+
+    private boolean walkChild(JsonNode source, JsonNode target, String segment, StringBuilder path, List<Node> nodes, Handler handler) {
+        List<Node> childNodes = Collections.emptyList();
+        for (Node node : nodes) {
+            Node child = node.children.get(segment);
+            if (child != null) {
+                childNodes = add(childNodes, child);
+            }
+            if (node.any != null) {
+                childNodes = add(childNodes, node.any);
+            }
+        }
+        for (Node child : childNodes) {
+            if (child.subtreeIgnored) {
+                return true;
+            }
+        }
+
+        int length = path.length();
+        path.append('/').append(segment);
+        try {
+            if (source.isMissingNode() || target.isMissingNode()) {
+                // The field or element exists only on one side, so it is reported as a whole
+                for (Node child : childNodes) {
+                    if (child.ignored) {
+                        log.trace("Ignoring difference at {}", path);
+                        return true;
+                    }
+                }
+                return handler.onDifference(path.toString(), source, target);
+            } else {
+                return walk(source, target, path, childNodes, handler);
+            }
+        } finally {
+            path.setLength(length);
+        }
+    }
+
+    private static List<Node> add(List<Node> nodes, Node node) {
+        if (nodes.isEmpty()) {
+            return Collections.singletonList(node);
+        }
+        List<Node> result = new ArrayList<>(nodes.size() + 1);
+        result.addAll(nodes);
+        result.add(node);
+        return result;
+    }
+
+    /**
+     * Escapes a field name as a segment of a JSON pointer, so that e.g. an annotation name can be used in an ignore rule
+     *
+     * @param fieldName The field name
+     *
+     * @return  The field name with {@code ~} escaped as {@code ~0} and {@code /} as {@code ~1}
+     */
+    public static String escape(String fieldName) {
+        if (fieldName.indexOf('~') < 0 && fieldName.indexOf('/') < 0) {
+            return fieldName;
+        }
+        return fieldName.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptySet;
 import static org.hamcrest.CoreMatchers.is;
@@ -336,6 +337,67 @@ public class OperatorMetricsTest {
         })));
     }
 
+    @Test
+    public void testReconcileAllIsQueuedBehindRunningReconciliation(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        Set<NamespaceAndName> resources = new HashSet<>(1);
+        resources.add(new NamespaceAndName("my-namespace", "avfc"));
+
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResource();
+        Promise<Void> firstReconciliation = Promise.promise();
+        AtomicInteger createOrUpdateCalls = new AtomicInteger();
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics, null) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                return createOrUpdateCalls.getAndIncrement() == 0 ? firstReconciliation.future() : Future.succeededFuture();
+            }
+
+            public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+                return Future.succeededFuture(resources);
+            }
+
+            public Set<Condition> validate(CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+
+        operator.enqueue(new Reconciliation("watch", "TestResource", "my-namespace", "avfc"));
+
+        Promise<Void> reconcileAllPromise = Promise.promise();
+        operator.reconcileAll("timer", "my-namespace", reconcileAllPromise);
+
+        Checkpoint async = context.checkpoint();
+        vertx.setTimer(100, id -> {
+            context.verify(() -> {
+                // The periodic reconciliation waits in the queue instead of competing for the lock
+                assertThat(metrics.meterRegistry().get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(1.0));
+            });
+            firstReconciliation.complete();
+        });
+
+        reconcileAllPromise.future().onComplete(context.succeeding(v -> context.verify(() -> {
+            MeterRegistry registry = metrics.meterRegistry();
+
+            assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(2.0));
+            assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "TestResource").counter().count(), is(2.0));
+            assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.locked").tag("kind", "TestResource").counter().count(), is(0.0));
+
+            async.flag();
+        })));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
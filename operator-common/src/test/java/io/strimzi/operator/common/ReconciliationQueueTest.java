@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationQueueTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return new Reconciliation(trigger, "TestResource", "my-namespace", name);
+    }
+
+    @Test
+    public void testEventsAreMergedWhileRunning() {
+        List<Reconciliation> started = new ArrayList<>();
+        List<Promise<Void>> running = new ArrayList<>();
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", r -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(r);
+            running.add(promise);
+            return promise.future();
+        }, 0, null);
+
+        Reconciliation watch1 = reconciliation("watch-1", "my-resource");
+        Reconciliation watch3 = reconciliation("watch-3", "my-resource");
+        Reconciliation watch4 = reconciliation("watch-4", "other-resource");
+
+        Future<Void> first = queue.enqueue(watch1);
+        Future<Void> second = queue.enqueue(reconciliation("watch-2", "my-resource"));
+        Future<Void> third = queue.enqueue(watch3);
+        queue.enqueue(watch4);
+
+        // Different resources are reconciled independently
+        assertThat(started.size(), is(2));
+        assertThat(started.get(0), is(watch1));
+        assertThat(started.get(1), is(watch4));
+
+        running.get(0).complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.isComplete(), is(false));
+
+        // The two queued events were merged into one reconciliation with the latest trigger
+        assertThat(started.size(), is(3));
+        assertThat(started.get(2), is(watch3));
+
+        running.get(2).fail("failure");
+        assertThat(second.failed(), is(true));
+        assertThat(third.failed(), is(true));
+        assertThat(started.size(), is(3));
+
+        running.get(1).complete();
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testReconciliationThrowing() {
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", r -> {
+            throw new RuntimeException("failure");
+        }, 0, null);
+
+        Future<Void> result = queue.enqueue(reconciliation("watch", "my-resource"));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("failure"));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testRateLimit(VertxTestContext context) {
+        List<Long> startTimes = new ArrayList<>();
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", r -> {
+            startTimes.add(System.nanoTime());
+            return Future.succeededFuture();
+        }, 200, null);
+
+        queue.enqueue(reconciliation("watch-1", "my-resource"));
+        queue.enqueue(reconciliation("watch-2", "my-resource"))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(startTimes.size(), is(2));
+                    assertThat(startTimes.get(1) - startTimes.get(0) >= 200_000_000L, is(true));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        List<Promise<Void>> running = new ArrayList<>();
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", r -> {
+            Promise<Void> promise = Promise.promise();
+            running.add(promise);
+            return promise.future();
+        }, 0, new MicrometerMetricsProvider(registry));
+
+        queue.enqueue(reconciliation("watch-1", "my-resource"));
+        queue.enqueue(reconciliation("watch-2", "my-resource"));
+        queue.enqueue(reconciliation("watch-3", "my-resource"));
+        queue.enqueue(reconciliation("watch-4", "other-resource"));
+
+        // Only watch-2 and watch-3 waited, and they were merged into one queued reconciliation
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.queued").tag("kind", "TestResource").gauge().value(), is(1.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.coalesced").tag("kind", "TestResource").counter().count(), is(1.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.duration").tag("kind", "TestResource").timer().count(), is(2L));
+
+        running.get(0).complete();
+
+        assertThat(running.size(), is(3));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.queued").tag("kind", "TestResource").gauge().value(), is(0.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.coalesced").tag("kind", "TestResource").counter().count(), is(1.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.duration").tag("kind", "TestResource").timer().count(), is(3L));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.duration").tag("kind", "TestResource").timer().totalTime(TimeUnit.NANOSECONDS), greaterThan(0.0));
+    }
+}
@@ -4,15 +4,20 @@
  */
 package io.strimzi.operator.common.model;
 
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -51,4 +56,40 @@ public class ResourceVisitorTest {
             }
         });
     }
+
+    @Test
+    public void testSkippedTypesAreNotVisited() {
+        Kafka k = TestUtils.fromYaml("/example.yaml", Kafka.class, true);
+        assertThat(k, is(notNullValue()));
+        List<String> visitedPaths = new ArrayList<>();
+        List<String> visitedProperties = new ArrayList<>();
+        ResourceVisitor.Visitor visitor = new ResourceVisitor.Visitor() {
+            @Override
+            public <M extends AnnotatedElement & Member> void visitProperty(List<String> path, Object owner, M member, ResourceVisitor.Property<M> property, Object propertyValue) {
+                visitedProperties.add(String.join(".", path) + "." + property.propertyName(member));
+            }
+
+            @Override
+            public void visitObject(List<String> path, Object object) {
+                visitedPaths.add(String.join(".", path));
+            }
+
+            @Override
+            public boolean visitsType(Class<?> type) {
+                return !ObjectMeta.class.equals(type);
+            }
+        };
+
+        // The second visit uses the cached properties
+        for (int i = 0; i < 2; i++) {
+            visitedPaths.clear();
+            visitedProperties.clear();
+            ResourceVisitor.visit(k, visitor);
+
+            assertThat(visitedPaths, hasItems("", "spec", "spec.kafka"));
+            assertThat(visitedPaths, not(hasItem("metadata")));
+            assertThat(visitedProperties, hasItems(".metadata", ".spec", "spec.kafka", "spec.kafka.replicas"));
+            assertThat(visitedProperties, not(hasItem("metadata.name")));
+        }
+    }
 }
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
@@ -14,6 +16,8 @@ import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.common.Annotations;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -29,6 +33,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
@@ -163,13 +168,32 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
         AbstractResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
 
         Checkpoint async = context.checkpoint();
+        String desiredJson = Serialization.asJson(resource);
         op.createOrUpdate(resource).onComplete(context.succeeding(rr -> context.verify(() -> {
             verify(mockResource).get();
-            verify(mockResource).create(eq(resource));
+            verify(mockResource).create(argThat(created -> withoutDesiredStateHash(created).equals(withoutDesiredStateHash(resource))));
+            // The desired resource is not modified
+            assertThat(Serialization.asJson(resource), is(desiredJson));
             async.flag();
         })));
     }
 
+    /**
+     * @return The JSON of the resource without the desired state hash annotation, which is set by operators which
+     * skip unchanged patches.
+     */
+    private static JsonNode withoutDesiredStateHash(HasMetadata resource) {
+        ObjectNode json = Serialization.jsonMapper().valueToTree(resource);
+        JsonNode annotations = json.path("metadata").path("annotations");
+        if (annotations.isObject()) {
+            ((ObjectNode) annotations).remove(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH);
+            if (annotations.size() == 0) {
+                ((ObjectNode) json.get("metadata")).remove("annotations");
+            }
+        }
+        return json;
+    }
+
     @Test
     public void testCreateOrUpdateThrowsWhenCreateThrows(VertxTestContext context) {
         T resource = resource();
@@ -9,12 +9,24 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Annotations;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -50,4 +62,36 @@ public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<Kubernet
                 .withData(singletonMap("FOO", Integer.toString(new Random().nextInt())))
                 .build();
     }
+
+    @Test
+    public void testDesiredStateHashIsIgnoredWhenComparingConfigMaps(VertxTestContext context) {
+        ConfigMap desired = resource();
+        ConfigMap current = new ConfigMapBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("1")
+                    .addToAnnotations(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, "0123456789abcdef")
+                .endMetadata()
+                .build();
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(NAMESPACE, RESOURCE_NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+            verify(mockResource, never()).patch(any());
+            async.flag();
+        })));
+    }
 }
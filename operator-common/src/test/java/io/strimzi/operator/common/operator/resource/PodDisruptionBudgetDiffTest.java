@@ -6,6 +6,7 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
 import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudgetBuilder;
+import io.strimzi.operator.common.Annotations;
 import org.junit.jupiter.api.Test;
 
 import static java.util.Collections.singletonMap;
@@ -40,6 +41,33 @@ class PodDisruptionBudgetDiffTest  {
         assertThat((new PodDisruptionBudgetDiff(pdb1, pdb2)).isEmpty(), is(true));
     }
 
+    @Test
+    public void testDesiredStateHashIgnored()    {
+        PodDisruptionBudget pdb1 = new PodDisruptionBudgetBuilder()
+                .withNewMetadata()
+                    .withName("my-pdb")
+                    .withNamespace("my-ns")
+                    .withAnnotations(singletonMap(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, "1234"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewMaxUnavailable(1)
+                .endSpec()
+                .build();
+
+        PodDisruptionBudget pdb2 = new PodDisruptionBudgetBuilder()
+                .withNewMetadata()
+                    .withName("my-pdb")
+                    .withNamespace("my-ns")
+                    .withAnnotations(singletonMap(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, "5678"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewMaxUnavailable(1)
+                .endSpec()
+                .build();
+
+        assertThat((new PodDisruptionBudgetDiff(pdb1, pdb2)).isEmpty(), is(true));
+    }
+
     @Test
     public void testMaxUnavailableDiff()    {
         PodDisruptionBudget pdb1 = new PodDisruptionBudgetBuilder()
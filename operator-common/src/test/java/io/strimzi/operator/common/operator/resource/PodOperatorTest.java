@@ -8,7 +8,10 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.model.Labels;
@@ -24,6 +27,11 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PodOperatorTest extends
@@ -52,6 +60,47 @@ public class PodOperatorTest extends
         });
     }
 
+    @Test
+    public void testReadinessCompletedByWatch(VertxTestContext context) {
+        Pod unready = resource();
+        Pod ready = new PodBuilder(unready)
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+
+        Watch mockWatch = mock(Watch.class);
+        PodResource mockResource = mock(PodResource.class);
+        when(mockResource.get()).thenReturn(unready);
+        when(mockResource.isReady()).thenReturn(false);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher<Pod> watcher = invocation.getArgument(0);
+            vertx.setTimer(100, ignored -> watcher.eventReceived(Watcher.Action.MODIFIED, ready));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+
+        Checkpoint async = context.checkpoint();
+        createResourceOperations(vertx, mockClient).readiness(NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The pod is polled only once while the watch is open
+                verify(mockResource, times(1)).isReady();
+                verify(mockWatch).close();
+                async.flag();
+            })));
+    }
+
     @Override
     protected Class clientType() {
         return KubernetesClient.class;
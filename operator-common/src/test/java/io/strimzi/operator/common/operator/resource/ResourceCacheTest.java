@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private Cache<Secret> store;
+    private SharedIndexInformer<Secret> informer;
+    private ResourceEventHandler<Secret> handler;
+    private ResourceCache<Secret> cache;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        store = new Cache<>();
+        informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(store);
+        when(informer.hasSynced()).thenReturn(true);
+
+        cache = new ResourceCache<>("Secret", Labels.STRIMZI_KIND_LABEL, singletonMap(NAMESPACE, informer), 60_000, null);
+
+        ArgumentCaptor<ResourceEventHandler<Secret>> captor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(captor.capture());
+        handler = captor.getValue();
+    }
+
+    private static Secret secret(String name, String kind, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(singletonMap(Labels.STRIMZI_KIND_LABEL, kind))
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(singletonMap("FOO", "BAR"))
+                .build();
+    }
+
+    @Test
+    public void testGetReturnsCopyOfCachedResource() {
+        Secret secret = secret("my-secret", "Kafka", "1");
+        store.add(secret);
+
+        Secret cached = cache.get(NAMESPACE, "my-secret");
+        assertThat(cached, is(secret));
+        assertThat(cached, is(not(sameInstance(secret))));
+    }
+
+    @Test
+    public void testMissesFallBack() {
+        assertThat(cache.get(NAMESPACE, "missing"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "my-secret"), is(nullValue()));
+
+        store.add(secret("my-secret", "Kafka", "1"));
+        when(informer.hasSynced()).thenReturn(false);
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+    }
+
+    @Test
+    public void testWritesBypassCacheUntilObserved() {
+        Secret original = secret("my-secret", "Kafka", "1");
+        store.add(original);
+        cache.written(NAMESPACE, "my-secret", secret("my-secret", "Kafka", "2"));
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+
+        Secret updated = secret("my-secret", "Kafka", "2");
+        store.update(updated);
+        handler.onUpdate(original, updated);
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(updated));
+    }
+
+    @Test
+    public void testDeletesBypassCacheUntilObserved() {
+        Secret original = secret("my-secret", "Kafka", "1");
+        store.add(original);
+        cache.written(NAMESPACE, "my-secret", null);
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+
+        // The cache is consistent again once the resource is gone from the store, even without an event
+        store.delete(original);
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+
+        Secret recreated = secret("my-secret", "Kafka", "3");
+        store.add(recreated);
+        handler.onAdd(recreated);
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(recreated));
+    }
+
+    @Test
+    public void testList() {
+        store.add(secret("kafka-secret", "Kafka", "1"));
+        store.add(secret("connect-secret", "KafkaConnect", "1"));
+
+        assertThat(cache.list(NAMESPACE, null), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.EMPTY.withStrimziCluster("my-cluster")), is(nullValue()));
+
+        List<Secret> kafkaSecrets = cache.list(NAMESPACE, Labels.EMPTY.withStrimziKind("Kafka"));
+        assertThat(kafkaSecrets.size(), is(1));
+        assertThat(kafkaSecrets.get(0).getMetadata().getName(), is("kafka-secret"));
+
+        cache.written(NAMESPACE, "new-secret", secret("new-secret", "Kafka", "2"));
+        assertThat(cache.list(NAMESPACE, Labels.EMPTY.withStrimziKind("Kafka")), is(nullValue()));
+    }
+
+    @Test
+    public void testAnyNamespace() {
+        Map<String, SharedIndexInformer<Secret>> informers = new HashMap<>();
+        informers.put(AbstractWatchableResourceOperator.ANY_NAMESPACE, informer);
+        ResourceCache<Secret> anyNamespaceCache = new ResourceCache<>("Secret", Labels.STRIMZI_KIND_LABEL, informers, 60_000, null);
+        store.add(secret("my-secret", "Kafka", "1"));
+
+        assertThat(anyNamespaceCache.get(NAMESPACE, "my-secret").getMetadata().getName(), is("my-secret"));
+        assertThat(anyNamespaceCache.list(AbstractWatchableResourceOperator.ANY_NAMESPACE, Labels.EMPTY.withStrimziKind("Kafka")).size(), is(1));
+        assertThat(anyNamespaceCache.list("other-namespace", Labels.EMPTY.withStrimziKind("Kafka")).size(), is(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testMetrics() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        SharedIndexInformer<Secret> informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(store);
+        when(informer.hasSynced()).thenReturn(true);
+        ResourceCache<Secret> cache = new ResourceCache<>("Secret", Labels.STRIMZI_KIND_LABEL, singletonMap(NAMESPACE, informer), 60_000, new MicrometerMetricsProvider(registry));
+        ArgumentCaptor<ResourceEventHandler<Secret>> captor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(captor.capture());
+
+        Secret secret = secret("my-secret", "Kafka", "1");
+        store.add(secret);
+        cache.get(NAMESPACE, "my-secret");
+        cache.list(NAMESPACE, Labels.EMPTY.withStrimziKind("Kafka"));
+        // Reads of missing resources, unscoped lists and resources with unobserved writes are misses
+        cache.get(NAMESPACE, "missing");
+        cache.list(NAMESPACE, Labels.EMPTY.withStrimziCluster("my-cluster"));
+        cache.written(NAMESPACE, "my-secret", secret("my-secret", "Kafka", "2"));
+        cache.get(NAMESPACE, "my-secret");
+
+        assertThat(registry.get("strimzi.resource.cache.hits").tag("kind", "Secret").counter().count(), is(2.0));
+        assertThat(registry.get("strimzi.resource.cache.misses").tag("kind", "Secret").counter().count(), is(3.0));
+
+        // The staleness grows until the next event
+        Thread.sleep(100);
+        assertThat(registry.get("strimzi.resource.cache.staleness.seconds").tag("kind", "Secret").gauge().value() >= 0.1, is(true));
+        captor.getValue().onUpdate(secret, secret("my-secret", "Kafka", "2"));
+        assertThat(registry.get("strimzi.resource.cache.staleness.seconds").tag("kind", "Secret").gauge().value() < 0.1, is(true));
+    }
+}
@@ -9,10 +9,27 @@ import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Annotations;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Secret, SecretList, Resource<Secret>> {
@@ -49,4 +66,74 @@ public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesC
     protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new SecretOperator(vertx, mockClient);
     }
+
+    @Test
+    public void testUnchangedPatchesAreSkipped(VertxTestContext context) {
+        Secret initial = resource();
+        initial.getMetadata().setResourceVersion("1");
+        initial.getMetadata().setUid("0b7ea2b4-6ac9-4c3e-9d1c-58b9a3f1b3c7");
+        AtomicReference<Secret> current = new AtomicReference<>(initial);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenAnswer(invocation -> current.get());
+        when(mockResource.withPropagationPolicy(any())).thenReturn(mockResource);
+        when(mockResource.patch(any())).thenAnswer(invocation -> {
+            Secret patched = invocation.getArgument(0);
+            patched.getMetadata().setUid(current.get().getMetadata().getUid());
+            patched.getMetadata().setResourceVersion(String.valueOf(Integer.parseInt(current.get().getMetadata().getResourceVersion()) + 1));
+            current.set(patched);
+            return patched;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(clientType());
+        mocker(mockClient, mockSecrets);
+
+        SecretOperator op = new SecretOperator(vertx, mockClient);
+
+        Secret desired = resource();
+        Checkpoint async = context.checkpoint();
+        op.reconcile(NAMESPACE, RESOURCE_NAME, desired)
+            .compose(rr -> {
+                context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    assertThat(Annotations.stringAnnotation(current.get(), Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, null), is(notNullValue()));
+                    // The hash is set on a copy of the desired resource
+                    assertThat(Annotations.stringAnnotation(desired, Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, null), is(nullValue()));
+                });
+                // Nothing has changed since the last patch
+                return op.reconcile(NAMESPACE, RESOURCE_NAME, resource());
+            })
+            .compose(rr -> {
+                context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+                    verify(mockResource, times(1)).patch(any());
+                });
+                // Something else modified the Secret
+                Secret modified = new SecretBuilder(current.get())
+                        .editMetadata()
+                            .withResourceVersion("10")
+                        .endMetadata()
+                        .withData(singletonMap("FOO", "BAZ"))
+                        .build();
+                current.set(modified);
+                return op.reconcile(NAMESPACE, RESOURCE_NAME, resource());
+            })
+            .compose(rr -> {
+                context.verify(() -> verify(mockResource, times(2)).patch(any()));
+                // The desired state changed
+                Secret changed = resource();
+                changed.setData(singletonMap("FOO", "QUX"));
+                return op.reconcile(NAMESPACE, RESOURCE_NAME, changed);
+            })
+            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                verify(mockResource, times(3)).patch(any());
+                async.flag();
+            })));
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StructuralDiffTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static JsonNode json(String json) throws IOException {
+        return MAPPER.readTree(json.replace('\'', '"'));
+    }
+
+    private static List<String> differences(StructuralDiff diff, String source, String target) throws IOException {
+        List<String> paths = new ArrayList<>();
+        diff.walk(json(source), json(target), (path, s, t) -> {
+            paths.add(path);
+            return true;
+        });
+        return paths;
+    }
+
+    @Test
+    public void testDifferencesAreReportedAtTheirPaths() throws IOException {
+        StructuralDiff diff = new StructuralDiff();
+
+        assertThat(differences(diff,
+                "{'a': 1, 'b': {'c': 'x', 'd': [1, 2]}, 'e': true}",
+                "{'a': 1, 'b': {'c': 'y', 'd': [1, 2, 3]}, 'f': true}"),
+                is(asList("/b/c", "/b/d/2", "/e", "/f")));
+        assertThat(differences(diff, "{'a': {'b': 1}}", "{'a': [1]}"), is(singletonList("/a")));
+        assertThat(differences(diff, "{'a~b/c': 1}", "{'a~b/c': 2}"), is(singletonList("/a~0b~1c")));
+        assertThat(differences(diff, "{'a': [{'b': 1}]}", "{'a': [{'b': 1}]}"), is(emptyList()));
+    }
+
+    @Test
+    public void testExactIgnoreRules() throws IOException {
+        StructuralDiff diff = new StructuralDiff("/spec/containers/*/resources", "/metadata/annotations/strimzi.io~1hash");
+
+        // Added or removed as a whole
+        assertThat(differences(diff,
+                "{'spec': {'containers': [{'name': 'a', 'resources': {'cpu': 1}}, {'name': 'b'}]}}",
+                "{'spec': {'containers': [{'name': 'a'}, {'name': 'b', 'resources': {'cpu': 1}}]}}"),
+                is(emptyList()));
+        // Changed within
+        assertThat(differences(diff,
+                "{'spec': {'containers': [{'name': 'a', 'resources': {'cpu': 1}}]}}",
+                "{'spec': {'containers': [{'name': 'a', 'resources': {'cpu': 2}}]}}"),
+                is(singletonList("/spec/containers/0/resources/cpu")));
+        assertThat(differences(diff,
+                "{'metadata': {'annotations': {'strimzi.io/hash': '1', 'other': '1'}}}",
+                "{'metadata': {'annotations': {'strimzi.io/hash': '2', 'other': '2'}}}"),
+                is(singletonList("/metadata/annotations/other")));
+    }
+
+    @Test
+    public void testSubtreeIgnoreRules() throws IOException {
+        StructuralDiff diff = new StructuralDiff("/status/**", "/spec/*/ignored/**");
+
+        assertThat(differences(diff,
+                "{'status': {'replicas': 1}, 'spec': {'a': {'ignored': {'x': 1}, 'b': 1}}}",
+                "{'status': {'replicas': 2}, 'spec': {'a': {'ignored': {'x': 2}, 'b': 2}}}"),
+                is(singletonList("/spec/a/b")));
+        assertThat(differences(diff, "{'status': {'replicas': 1}}", "{}"), is(emptyList()));
+    }
+
+    @Test
+    public void testDiffersStopsAtFirstDifference() throws IOException {
+        StructuralDiff diff = new StructuralDiff("/a");
+
+        List<String> paths = new ArrayList<>();
+        diff.walk(json("{'a': 1, 'b': 1, 'c': 1}"), json("{'a': 2, 'b': 2, 'c': 2}"), (path, s, t) -> {
+            paths.add(path);
+            return false;
+        });
+
+        assertThat(paths, is(singletonList("/b")));
+        assertThat(diff.differs(json("{'a': 1, 'b': 1}"), json("{'a': 2, 'b': 2}")), is(true));
+        assertThat(diff.differs(json("{'a': 1, 'b': 1}"), json("{'a': 2, 'b': 1}")), is(false));
+    }
+
+    @Test
+    public void testInvalidIgnoreRules() {
+        assertThrows(IllegalArgumentException.class, () -> new StructuralDiff("status"));
+        assertThrows(IllegalArgumentException.class, () -> new StructuralDiff("/status/**/replicas"));
+    }
+}
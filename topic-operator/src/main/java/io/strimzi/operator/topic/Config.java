@@ -109,7 +109,12 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
+    public static final String TC_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String TC_INCREMENTAL_RECONCILIATION_ENABLED = "STRIMZI_INCREMENTAL_RECONCILIATION_ENABLED";
+    public static final String TC_INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL = "STRIMZI_INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    public static final String TC_CONFIG_CHANGE_NOTIFICATIONS_ENABLED = "STRIMZI_CONFIG_CHANGE_NOTIFICATIONS_ENABLED";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     public static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -165,6 +170,21 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics whose metadata is fetched from the Kafka cluster in a single request during periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "100");
+
+    /** The maximum number of topic reconciliations which are executed at the same time */
+    public static final Value<Integer> MAX_CONCURRENT_RECONCILIATIONS = new Value<>(TC_MAX_CONCURRENT_RECONCILIATIONS, POSITIVE_INTEGER, "50");
+
+    /** Whether periodic reconciliations skip the topics which are unchanged since they were last reconciled */
+    public static final Value<Boolean> INCREMENTAL_RECONCILIATION_ENABLED = new Value<>(TC_INCREMENTAL_RECONCILIATION_ENABLED, BOOLEAN, "false");
+
+    /** When incremental reconciliation is enabled, the number of periodic reconciliations between full reconciliations of all the topics */
+    public static final Value<Integer> INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL = new Value<>(TC_INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL, POSITIVE_INTEGER, "10");
+
+    /** Whether topic config changes are detected using the Kafka config change notifications instead of a watch per topic */
+    public static final Value<Boolean> CONFIG_CHANGE_NOTIFICATIONS_ENABLED = new Value<>(TC_CONFIG_CHANGE_NOTIFICATIONS_ENABLED, BOOLEAN, "false");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -212,7 +232,12 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
+        addConfigValue(configValues, MAX_CONCURRENT_RECONCILIATIONS);
+        addConfigValue(configValues, INCREMENTAL_RECONCILIATION_ENABLED);
+        addConfigValue(configValues, INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, CONFIG_CHANGE_NOTIFICATIONS_ENABLED);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
         addConfigValue(configValues, TLS_TRUSTSTORE_PASSWORD);
@@ -6,6 +6,8 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -75,6 +77,20 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of several topics in Kafka using a single
+     * describe round-trip, completing the returned Future with the requested metadata.
+     * Unlike {@link #topicMetadata(TopicName)} this does not first check with the controller whether
+     * each topic exists, so the returned map contains only those topics which could be
+     * successfully described. Callers should fall back to {@link #topicMetadata(TopicName)}
+     * for any topic which is absent from the map.
+     * If the whole request fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the metadata of the topics which could be described.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
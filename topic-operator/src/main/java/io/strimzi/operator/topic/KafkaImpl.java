@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -121,6 +126,48 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop
+     * with the metadata of the given topics, obtained using a single {@code describeTopics}
+     * and a single {@code describeConfigs} request.
+     * Topics which could not be described (for example because they do not exist) are omitted from the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyMap());
+        }
+        try {
+            LOGGER.debug("Getting metadata for {} topics", topicNames.size());
+            Set<String> names = new LinkedHashSet<>(topicNames.size());
+            Set<ConfigResource> resources = new LinkedHashSet<>(topicNames.size());
+            for (TopicName topicName : topicNames) {
+                names.add(topicName.toString());
+                resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+            }
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).values();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            Map<TopicName, TopicMetadata> result = new HashMap<>(names.size());
+            List<Future> futures = new ArrayList<>(names.size());
+            for (ConfigResource resource : resources) {
+                TopicName topicName = new TopicName(resource.name());
+                Future<TopicDescription> topicDescriptionFuture = mapFuture(descriptions.get(resource.name()));
+                Future<Config> configFuture = mapFuture(configs.get(resource));
+                futures.add(CompositeFuture.all(topicDescriptionFuture, configFuture)
+                        .onSuccess(compositeFuture -> result.put(topicName,
+                                new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1))))
+                        .onFailure(error -> LOGGER.debug("Could not get metadata for topic {}", topicName, error)));
+            }
+            // Individual failures are deliberately not propagated: those topics are just absent from the result
+            return CompositeFuture.join(futures)
+                    .recover(ignored -> Future.succeededFuture())
+                    .map(ignored -> result);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of reconciliations which are executed at the same time.
+ * Reconciliations which cannot be executed straight away are queued, and those triggered by watches
+ * are always dequeued before those triggered by the periodic reconciliation, so that a periodic
+ * reconciliation of many topics doesn't delay the handling of changes as they happen.
+ */
+class ReconciliationScheduler {
+
+    private final static Logger LOGGER = LogManager.getLogger(ReconciliationScheduler.class);
+
+    /**
+     * The priority of a reconciliation. Queued reconciliations are executed in the order of this enum.
+     */
+    enum Priority {
+        /** Reconciliation triggered by a change in Kubernetes or in Kafka */
+        WATCH,
+        /** Reconciliation which is part of a periodic reconciliation */
+        PERIODIC
+    }
+
+    private class Task {
+        private final Supplier<Future<Void>> action;
+        private final Promise<Void> result;
+        private final long queuedAt;
+
+        Task(Supplier<Future<Void>> action, Promise<Void> result) {
+            this.action = action;
+            this.result = result;
+            this.queuedAt = System.nanoTime();
+        }
+
+        void run() {
+            if (queueTimer != null) {
+                queueTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            }
+            Future<Void> actionFuture;
+            try {
+                actionFuture = action.get();
+            } catch (Throwable t) {
+                actionFuture = Future.failedFuture(t);
+            }
+            actionFuture.onComplete(ar -> {
+                release();
+                result.handle(ar);
+            });
+        }
+    }
+
+    private final int maxInFlight;
+    private final Map<Priority, Deque<Task>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, AtomicInteger> queueDepths = new EnumMap<>(Priority.class);
+    private final AtomicInteger inFlight;
+    private final Timer queueTimer;
+    private boolean dispatching;
+
+    /**
+     * Constructor
+     *
+     * @param maxInFlight The maximum number of reconciliations which can be executed at the same time.
+     * @param metrics The metrics provider to use to publish the queue metrics, or null.
+     */
+    ReconciliationScheduler(int maxInFlight, MetricsProvider metrics) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("The maximum number of in-flight reconciliations must be greater than zero");
+        }
+        this.maxInFlight = maxInFlight;
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+        }
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+            for (Priority priority : Priority.values()) {
+                queueDepths.put(priority, metrics.gauge(TopicOperator.METRICS_PREFIX + "reconciliations.queued",
+                        "Number of reconciliations waiting to be executed",
+                        metricTags.and("priority", priority.name().toLowerCase(Locale.ENGLISH))));
+            }
+            inFlight = metrics.gauge(TopicOperator.METRICS_PREFIX + "reconciliations.inflight",
+                    "Number of reconciliations currently being executed",
+                    metricTags);
+            queueTimer = metrics.timer(TopicOperator.METRICS_PREFIX + "reconciliations.queue.duration",
+                    "The time reconciliations wait before they start being executed",
+                    metricTags);
+        } else {
+            for (Priority priority : Priority.values()) {
+                queueDepths.put(priority, new AtomicInteger());
+            }
+            inFlight = new AtomicInteger();
+            queueTimer = null;
+        }
+    }
+
+    /**
+     * Execute the given {@code action} as soon as fewer than the maximum number of reconciliations are in flight
+     * and no reconciliation of a higher priority is waiting.
+     *
+     * @param priority The priority of the reconciliation.
+     * @param action Supplier of the future for the reconciliation. Called when the reconciliation is started.
+     * @return A future which completes with the result of the action.
+     */
+    Future<Void> schedule(Priority priority, Supplier<Future<Void>> action) {
+        Promise<Void> result = Promise.promise();
+        synchronized (this) {
+            queues.get(priority).add(new Task(action, result));
+            queueDepths.get(priority).incrementAndGet();
+            LOGGER.trace("Queued {} reconciliation, {} in flight", priority, inFlight.get());
+        }
+        dispatch();
+        return result.future();
+    }
+
+    /**
+     * @return The number of reconciliations which are either queued or being executed.
+     */
+    synchronized int pending() {
+        int pending = inFlight.get();
+        for (Deque<Task> queue : queues.values()) {
+            pending += queue.size();
+        }
+        return pending;
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight.decrementAndGet();
+        }
+        dispatch();
+    }
+
+    /**
+     * Run queued tasks while there is capacity.
+     * Tasks which complete synchronously call back into this method, so rather than recursing
+     * (which could overflow the stack when many tasks are queued) the loop which is already running picks up the
+     * freed capacity.
+     */
+    private void dispatch() {
+        synchronized (this) {
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+        while (true) {
+            Task next = null;
+            synchronized (this) {
+                if (inFlight.get() < maxInFlight) {
+                    next = poll();
+                }
+                if (next == null) {
+                    dispatching = false;
+                    return;
+                }
+                inFlight.incrementAndGet();
+            }
+            next.run();
+        }
+    }
+
+    private Task poll() {
+        for (Priority priority : Priority.values()) {
+            Task task = queues.get(priority).poll();
+            if (task != null) {
+                queueDepths.get(priority).decrementAndGet();
+                return task;
+            }
+        }
+        return null;
+    }
+}
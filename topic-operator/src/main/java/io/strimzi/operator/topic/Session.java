@@ -222,7 +222,9 @@ public class Session extends AbstractVerticle {
                 this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                this.topicConfigsWatcher = config.get(Config.CONFIG_CHANGE_NOTIFICATIONS_ENABLED)
+                        ? new TopicConfigChangesWatcher(topicOperator)
+                        : new TopicConfigsWatcher(topicOperator);
                 LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
                 this.topicWatcher = new ZkTopicWatcher(topicOperator);
                 LOGGER.debug("Using TopicWatcher {}", topicWatcher);
@@ -0,0 +1,181 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ZooKeeper watcher for the config change notifications which Kafka creates as sequential child znodes of
+ * {@code /config/changes} whenever the configuration of an entity is changed,
+ * calling {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)}
+ * for the watched topics the notifications refer to.
+ *
+ * Unlike the {@link TopicConfigsWatcher}, which sets a data watch on the {@code /config/topics} child of every topic,
+ * this uses a single child watch regardless of the number of topics. When the ZooKeeper session is re-established,
+ * only the notifications created since the last one which was processed trigger a reconciliation.
+ */
+class TopicConfigChangesWatcher extends TopicConfigsWatcher {
+
+    static final String CONFIG_CHANGES_ZNODE = "/config/changes";
+    private static final String CONFIG_CHANGE_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY_TYPE = "topics";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+    private volatile Zk zk;
+    private boolean initialized;
+    private long lastSequence = -1;
+
+    TopicConfigChangesWatcher(TopicOperator topicOperator) {
+        super(topicOperator);
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        this.zk = zk;
+        zk.watchChildren(CONFIG_CHANGES_ZNODE, this::onNotifications).compose(zk2 -> {
+            zk.children(CONFIG_CHANGES_ZNODE, this::onNotifications);
+            return Future.succeededFuture();
+        });
+    }
+
+    @Override
+    protected void stop() {
+        super.stop();
+        Zk zk = this.zk;
+        if (zk != null) {
+            zk.unwatchChildren(CONFIG_CHANGES_ZNODE);
+        }
+    }
+
+    @Override
+    protected void addChild(String child) {
+        log.debug("Watching config change notifications for topic {}", child);
+        topics.add(child);
+    }
+
+    @Override
+    protected void removeChild(String child) {
+        log.debug("Unwatching config change notifications for topic {}", child);
+        topics.remove(child);
+    }
+
+    @Override
+    protected boolean watching(String child) {
+        return topics.contains(child);
+    }
+
+    /**
+     * Handles the current list of notifications, both for the initial listing and for the child watch.
+     * The notifications which existed when the watcher started, or which were already processed, are ignored.
+     *
+     * @param childrenResult    The current children of {@code /config/changes}
+     */
+    private void onNotifications(AsyncResult<List<String>> childrenResult) {
+        if (!started()) {
+            return;
+        }
+        if (childrenResult.failed()) {
+            log.error("Error on znode {} children", CONFIG_CHANGES_ZNODE, childrenResult.cause());
+            return;
+        }
+
+        boolean initial;
+        long from;
+        long to = -1;
+        synchronized (this) {
+            initial = !initialized;
+            initialized = true;
+            from = lastSequence;
+            for (String child : childrenResult.result()) {
+                to = Math.max(to, sequence(child));
+            }
+            if (to <= from) {
+                return;
+            }
+            lastSequence = to;
+        }
+
+        if (initial) {
+            log.debug("Ignoring config change notifications up to {}", to);
+            return;
+        }
+
+        for (String child : childrenResult.result()) {
+            long sequence = sequence(child);
+            if (sequence > from && sequence <= to) {
+                String path = CONFIG_CHANGES_ZNODE + "/" + child;
+                zk.getData(path, dataResult -> {
+                    if (dataResult.succeeded()) {
+                        String topic = topicName(path, dataResult.result());
+                        if (topic != null && watching(topic)) {
+                            notifyOperator(topic);
+                        }
+                    } else {
+                        // Kafka deletes the notifications once they expire
+                        log.debug("While getting znode {}", path, dataResult.cause());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * @param child     Name of a child of {@code /config/changes}
+     * @return  The sequence number of the notification, or -1 if the child is not a notification
+     */
+    static long sequence(String child) {
+        if (child.startsWith(CONFIG_CHANGE_PREFIX)) {
+            try {
+                return Long.parseLong(child.substring(CONFIG_CHANGE_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                // Not a notification
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the name of the topic a notification refers to. Both the version 2 format
+     * ({@code {"version":2,"entity_path":"topics/my-topic"}}) and the version 1 format
+     * ({@code {"version":1,"entity_type":"topics","entity_name":"my-topic"}}) are supported.
+     *
+     * @param path      The path of the notification
+     * @param data      The content of the notification
+     * @return  The name of the topic, or null if the notification is not about a topic
+     */
+    private String topicName(String path, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode notification = OBJECT_MAPPER.readTree(data);
+            JsonNode entityPath = notification.get("entity_path");
+            if (entityPath != null) {
+                String[] parts = entityPath.asText().split("/", 2);
+                return parts.length == 2 && TOPICS_ENTITY_TYPE.equals(parts[0]) ? parts[1] : null;
+            }
+            JsonNode entityType = notification.get("entity_type");
+            JsonNode entityName = notification.get("entity_name");
+            if (entityType != null && entityName != null && TOPICS_ENTITY_TYPE.equals(entityType.asText())) {
+                return entityName.asText();
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring config change notification {} which could not be parsed", path, e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+
+import java.util.Objects;
+
+/**
+ * A compact summary of the state of a topic, in Kafka and in Kubernetes, when it was last reconciled.
+ * Used by incremental periodic reconciliations to skip topics which have not changed since.
+ */
+class TopicFingerprint {
+    private final int configHash;
+    private final int numPartitions;
+    private final short numReplicas;
+    private final String resourceVersion;
+
+    private TopicFingerprint(int configHash, int numPartitions, short numReplicas, String resourceVersion) {
+        this.configHash = configHash;
+        this.numPartitions = numPartitions;
+        this.numReplicas = numReplicas;
+        this.resourceVersion = resourceVersion;
+    }
+
+    /**
+     * @param kafkaTopic The topic, as it is in Kafka.
+     * @param resource The KafkaTopic resource for the topic.
+     * @return The fingerprint, or null if either argument is null.
+     */
+    static TopicFingerprint of(Topic kafkaTopic, KafkaTopic resource) {
+        if (kafkaTopic == null || resource == null) {
+            return null;
+        }
+        return new TopicFingerprint(kafkaTopic.getConfig().hashCode(),
+                kafkaTopic.getNumPartitions(),
+                kafkaTopic.getNumReplicas(),
+                resource.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TopicFingerprint that = (TopicFingerprint) o;
+        return configHash == that.configHash
+                && numPartitions == that.numPartitions
+                && numReplicas == that.numReplicas
+                && Objects.equals(resourceVersion, that.resourceVersion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(configHash, numPartitions, numReplicas, resourceVersion);
+    }
+
+    @Override
+    public String toString() {
+        return "TopicFingerprint(configHash=" + configHash +
+                ", numPartitions=" + numPartitions +
+                ", numReplicas=" + numReplicas +
+                ", resourceVersion=" + resourceVersion +
+                ")";
+    }
+}
@@ -35,10 +35,12 @@ import org.apache.logging.log4j.Logger;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -63,6 +65,9 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final ReconciliationScheduler scheduler;
+    private final ConcurrentHashMap<TopicName, TopicFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicInteger periodicReconciliations = new AtomicInteger();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -70,6 +75,7 @@ class TopicOperator {
     private Counter failedReconciliationsCounter;
     private Counter successfulReconciliationsCounter;
     private Counter lockedReconciliationsCounter;
+    private Counter skippedReconciliationsCounter;
     private AtomicInteger topicCounter;
     protected Timer reconciliationsTimer;
 
@@ -385,6 +391,7 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.scheduler = new ReconciliationScheduler(config.get(Config.MAX_CONCURRENT_RECONCILIATIONS), metrics);
 
         initMetrics();
     }
@@ -420,6 +427,10 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.unchanged",
+                    "Number of reconciliations skipped by incremental periodic reconciliations because the topic was unchanged",
+                    metricTags);
         }
     }
 
@@ -439,6 +450,20 @@ class TopicOperator {
      * which will complete the returned future
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
+        return executeWithTopicLockHeld(logContext, key, action, ReconciliationScheduler.Priority.WATCH);
+    }
+
+    /**
+     * Like {@link #executeWithTopicLockHeld(LogContext, TopicName, Reconciliation)}, but the action
+     * is first queued in the {@link ReconciliationScheduler} with the given {@code priority}, so that
+     * only a bounded number of actions try to acquire their lock at the same time.
+     */
+    private Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action,
+                                                  ReconciliationScheduler.Priority priority) {
+        return scheduler.schedule(priority, () -> lockAndExecute(logContext, key, action));
+    }
+
+    private Future<Void> lockAndExecute(LogContext logContext, TopicName key, Reconciliation action) {
         String lockName = key.toString();
         int timeoutMs = 30 * 1_000;
         Promise<Void> result = Promise.promise();
@@ -469,6 +494,9 @@ class TopicOperator {
         vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
             if (lockResult.succeeded()) {
                 LOGGER.debug("{}: Lock acquired", logContext);
+                // Whatever the action does, the topic needs to be fully reconciled again before it can be skipped.
+                // This is done with the lock held, so that it cannot race with a reconciliation recording a fingerprint.
+                fingerprints.remove(key);
                 LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
@@ -1207,8 +1235,8 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debug("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        LOGGER.debug("Outstanding: {}, scheduled: {}", inflight, scheduler.pending());
+        return inflight.size() > 0 || scheduler.pending() > 0;
     }
 
     /**
@@ -1245,14 +1273,37 @@ class TopicOperator {
         }
     }
 
+    /**
+     * @return Whether the next periodic reconciliation can skip the topics which are unchanged since they were
+     * last reconciled. When incremental reconciliation is enabled every
+     * {@link Config#INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL}th periodic reconciliation is still a full one.
+     */
+    private boolean nextReconciliationIsIncremental() {
+        if (!config.get(Config.INCREMENTAL_RECONCILIATION_ENABLED)) {
+            return false;
+        }
+        int fullSweepInterval = config.get(Config.INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL);
+        return periodicReconciliations.getAndIncrement() % fullSweepInterval != 0;
+    }
+
     Future<?> reconcileAllTopics(String reconciliationType) {
-        LOGGER.info("Starting {} reconciliation", reconciliationType);
+        boolean incremental = nextReconciliationIsIncremental();
+        LOGGER.info("Starting {}{} reconciliation", incremental ? "incremental " : "", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicsFromKafka = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            // Forget about topics which no longer exist
+            fingerprints.keySet().retainAll(new HashSet<>(topicsFromKafka));
+            if (incremental) {
+                // The resource versions of the KafkaTopics are needed up front to tell which topics are unchanged
+                return listResourcesByTopicName(reconciliationType)
+                        .compose(resources -> reconcileFromKafka(reconciliationType, topicsFromKafka, resources));
+            } else {
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+                return reconcileFromKafka(reconciliationType, topicsFromKafka, null);
+            }
+        }).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
@@ -1308,9 +1359,9 @@ class TopicOperator {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
-                    }));
+                    }, ReconciliationScheduler.Priority.PERIODIC));
                 }
                 return CompositeFuture.join(futs2);
             });
@@ -1318,10 +1369,39 @@ class TopicOperator {
     }
 
 
+    /**
+     * List the KafkaTopics, indexed by the name of their topic.
+     * KafkaTopics which are invalid, or which have the same topic name as another KafkaTopic, are omitted.
+     */
+    private Future<Map<TopicName, KafkaTopic>> listResourcesByTopicName(String reconciliationType) {
+        return k8s.listResources().recover(ex -> Future.failedFuture(
+                new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
+        )).map(ktList -> {
+            Map<TopicName, KafkaTopic> resources = new HashMap<>(ktList.size());
+            Set<TopicName> duplicates = new HashSet<>();
+            for (KafkaTopic kt : ktList) {
+                try {
+                    TopicName topicName = TopicSerialization.fromTopicResource(kt).getTopicName();
+                    if (resources.put(topicName, kt) != null) {
+                        duplicates.add(topicName);
+                    }
+                } catch (InvalidTopicException e) {
+                    LOGGER.debug("Ignoring invalid KafkaTopic {}", logTopic(kt));
+                }
+            }
+            resources.keySet().removeAll(duplicates);
+            return resources;
+        });
+    }
+
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * Topics whose {@link TopicFingerprint} computed from their current metadata and their KafkaTopic
+     * in {@code resources} is the same as when they were last reconciled are skipped.
+     * When {@code resources} is null (in a full sweep) no topic is skipped.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka,
+                                                      Map<TopicName, KafkaTopic> resources) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
@@ -1330,46 +1410,92 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debug("{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debug("{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
+            // Reconcile the topics batch by batch, so that the metadata of each batch of topics
+            // can be fetched from Kafka with a single describe request
+            int batchSize = config.get(Config.TOPIC_METADATA_BATCH_SIZE);
+            List<Future<Void>> futures = new ArrayList<>(topicsFromKafka.size());
+            Future<Void> batchesFuture = Future.succeededFuture();
+            for (int start = 0; start < topicsFromKafka.size(); start += batchSize) {
+                List<TopicName> batch = topicsFromKafka.subList(start, Math.min(start + batchSize, topicsFromKafka.size()));
+                batchesFuture = batchesFuture.compose(ignored -> prefetchTopicMetadata(reconciliationType, batch))
+                    .compose(prefetched -> {
+                        List<Future<Void>> batchFutures = new ArrayList<>(batch.size());
+                        for (TopicName topicName : batch) {
+                            if (resources != null
+                                    && isUnchangedSinceLastReconciliation(topicName, prefetched.get(topicName), resources.get(topicName))) {
+                                LOGGER.debug("{}: Topic {} is unchanged since it was last reconciled -> succeeded", reconciliationType, topicName);
+                                skippedReconciliationsCounter.increment();
+                                succeeded.add(topicName);
+                                continue;
                             }
-                        });
-
-                    }
-                }));
+                            batchFutures.add(reconcileFromKafka(reconciliationType, topicName, prefetched.get(topicName), state));
+                        }
+                        futures.addAll(batchFutures);
+                        // Failures are recorded in the state, they shouldn't stop the remaining batches
+                        return join(batchFutures).<Void>mapEmpty().recover(error -> Future.succeededFuture());
+                    });
             }
-            return join(futures).map(state);
+            return batchesFuture.compose(ignored -> join(futures)).map(state);
         } else {
             return Future.succeededFuture(state);
         }
+    }
 
+    private boolean isUnchangedSinceLastReconciliation(TopicName topicName, TopicMetadata metadata, KafkaTopic resource) {
+        if (resource == null) {
+            // The KafkaTopic has been deleted (or was never created), so the topic has to be reconciled
+            return false;
+        }
+        TopicFingerprint fingerprint = fingerprints.get(topicName);
+        return fingerprint != null
+                && metadata != null
+                && fingerprint.equals(TopicFingerprint.of(TopicSerialization.fromTopicMetadata(metadata), resource));
+    }
 
+    /**
+     * Fetch the metadata of the given {@code batch} of topics from Kafka in a single request.
+     * A failure is not fatal, the topics of the batch will just have their metadata fetched individually.
+     */
+    private Future<Map<TopicName, TopicMetadata>> prefetchTopicMetadata(String reconciliationType, List<TopicName> batch) {
+        return kafka.topicMetadata(batch).recover(error -> {
+            LOGGER.warn("Error getting metadata for {} topics during {} reconciliation, falling back to fetching it per topic",
+                    batch.size(), reconciliationType, error);
+            return Future.succeededFuture(Collections.emptyMap());
+        });
+    }
+
+    private Future<Void> reconcileFromKafka(String reconciliationType, TopicName topicName,
+                                            TopicMetadata prefetchedMetadata, ReconcileState state) {
+        LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
+        return executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
+            @Override
+            public Future<Void> execute() {
+                return getFromTopicStore(topicName).recover(error -> {
+                    state.failed.put(topicName,
+                            new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                    + reconciliationType + " reconciliation", error));
+                    return Future.succeededFuture();
+                }).compose(topic -> {
+                    if (topic == null) {
+                        LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
+                        state.undetermined.add(topicName);
+                        return Future.succeededFuture();
+                    } else {
+                        LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
+                        return reconcileWithPrivateTopic(logContext, topicName, topic, this, prefetchedMetadata)
+                                .<Void>map(ignored -> {
+                                    LOGGER.debug("{} reconcile success -> succeeded", topicName);
+                                    state.succeeded.add(topicName);
+                                    return null;
+                                }).recover(error -> {
+                                    LOGGER.debug("{} reconcile error -> failed", topicName);
+                                    state.failed.put(topicName, error);
+                                    return Future.failedFuture(error);
+                                });
+                    }
+                });
+            }
+        }, ReconciliationScheduler.Priority.PERIODIC);
     }
 
     @SuppressWarnings("unchecked")
@@ -1383,7 +1509,8 @@ class TopicOperator {
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
+                                                   Reconciliation reconciliation,
+                                                   TopicMetadata prefetchedMetadata) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
                 LOGGER.error("{}: Error getting KafkaTopic {} for topic {}",
@@ -1393,20 +1520,39 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, prefetchedMetadata);
             });
     }
 
+    /**
+     * Get the topic from Kafka and reconcile it with the given {@code privateTopic} and {@code kafkaTopicResource}.
+     * If {@code prefetchedMetadata} is given and shows that all three are already identical then it is used
+     * instead of fetching the metadata again: Any change to the topic made since it was prefetched will
+     * trigger its own reconciliation, so acting on stale metadata cannot cause an incorrect update.
+     */
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata prefetchedMetadata) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
             Topic k8sTopic = kafkaTopicResource != null ? TopicSerialization.fromTopicResource(kafkaTopicResource) : null;
-            kafka.topicMetadata(topicName)
+            Future<TopicMetadata> metadataFuture;
+            if (isUnchanged(privateTopic, k8sTopic, TopicSerialization.fromTopicMetadata(prefetchedMetadata))) {
+                LOGGER.debug("{}: Using prefetched metadata for topic {}", logContext, topicName);
+                metadataFuture = Future.succeededFuture(prefetchedMetadata);
+            } else {
+                metadataFuture = kafka.topicMetadata(topicName);
+            }
+            metadataFuture
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
-                    return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
+                    return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic)
+                        .onSuccess(ignored -> {
+                            if (config.get(Config.INCREMENTAL_RECONCILIATION_ENABLED)
+                                    && isUnchanged(privateTopic, k8sTopic, topicFromKafka)) {
+                                fingerprints.put(topicName, TopicFingerprint.of(topicFromKafka, kafkaTopicResource));
+                            }
+                        });
                 })
                 .onComplete(ar -> {
                     if (ar.failed()) {
@@ -1430,6 +1576,17 @@ class TopicOperator {
         return topicPromise.future();
     }
 
+    private static boolean isUnchanged(Topic privateTopic, Topic k8sTopic, Topic kafkaTopic) {
+        if (privateTopic == null || k8sTopic == null || kafkaTopic == null) {
+            return false;
+        }
+        return Objects.equals(privateTopic.getResourceName(), k8sTopic.getResourceName())
+                && privateTopic.getTopicName().equals(k8sTopic.getTopicName())
+                && privateTopic.getTopicName().equals(kafkaTopic.getTopicName())
+                && TopicDiff.diff(privateTopic, kafkaTopic).isEmpty()
+                && TopicDiff.diff(privateTopic, k8sTopic).isEmpty();
+    }
+
     Future<Topic> getFromKafka(TopicName topicName) {
         return kafka.topicMetadata(topicName).map(TopicSerialization::fromTopicMetadata);
     }
@@ -1460,7 +1617,7 @@ class TopicOperator {
                         return reconcile(self, logContext, involvedObject, k8sTopic, kafkaTopic, privateTopic);
                     });
             }
-        });
+        }, ReconciliationScheduler.Priority.PERIODIC);
     }
 
 }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -29,9 +30,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -245,6 +249,30 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicsMetadata(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Either<TopicDescription, Exception>> descriptions = new HashMap<>();
+        descriptions.put("found", Either.ofLeft(mock(TopicDescription.class)));
+        descriptions.put("not-found", Either.ofRight(new UnknownTopicOrPartitionException()));
+        descriptions.put("timeout", Either.ofLeft(mock(TopicDescription.class)));
+        mockDescribeTopics(admin, descriptions);
+        Map<ConfigResource, Either<Config, Exception>> configs = new HashMap<>();
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "found"), Either.ofLeft(mock(Config.class)));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "not-found"), Either.ofRight(new UnknownTopicOrPartitionException()));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "timeout"), Either.ofRight(new TimeoutException()));
+        mockDescribeConfigs(admin, configs);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicMetadata(asList(new TopicName("found"), new TopicName("not-found"), new TopicName("timeout")))
+                .onComplete(testContext.succeeding(topicsMetadata -> testContext.verify(() -> {
+                    assertThat(topicsMetadata.keySet(), is(singleton(new TopicName("found"))));
+                    assertNotNull(topicsMetadata.get(new TopicName("found")).getDescription());
+                    assertNotNull(topicsMetadata.get(new TopicName("found")).getConfig());
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
@@ -9,6 +9,7 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +36,8 @@ public class MockKafka implements Kafka {
     private int topicMetadataResposeCall = 0;
     private List<Function<TopicName, Future<TopicMetadata>>> topicMetadataRespose = singletonList(
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicMetadataResponse."));
+    private Function<Collection<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse =
+        t -> succeededFuture(Collections.emptyMap());
     private Function<TopicName, Future<Boolean>> topicExistsResult =
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicExistsResult.");
     private Function<String, Future<Void>> createTopicResponse =
@@ -81,6 +84,11 @@ public class MockKafka implements Kafka {
         return this;
     }
 
+    public MockKafka setTopicsMetadataResponse(Function<Collection<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse) {
+        this.topicsMetadataResponse = topicsMetadataResponse;
+        return this;
+    }
+
     public MockKafka setCreateTopicResponse(Function<String, Future<Void>> createTopicResponse) {
         this.createTopicResponse = createTopicResponse;
         return this;
@@ -208,6 +216,11 @@ public class MockKafka implements Kafka {
         return getTopicNameFutureFunction().apply(topicName);
     }
 
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        return topicsMetadataResponse.apply(topicNames);
+    }
+
     Function<TopicName, Future<TopicMetadata>> getTopicNameFutureFunction() {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationSchedulerTest {
+    @Test
+    public void testMaxInFlightIsEnforced() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(2, null);
+        List<Promise<Void>> started = new ArrayList<>();
+        List<Future<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, () -> {
+                Promise<Void> promise = Promise.promise();
+                started.add(promise);
+                return promise.future();
+            }));
+        }
+        assertThat(started.size(), is(2));
+        assertThat(scheduler.pending(), is(5));
+
+        started.get(0).complete();
+        assertThat(results.get(0).succeeded(), is(true));
+        assertThat(started.size(), is(3));
+
+        started.get(1).fail("failure");
+        assertThat(results.get(1).failed(), is(true));
+        assertThat(started.size(), is(4));
+
+        started.get(2).complete();
+        started.get(3).complete();
+        started.get(4).complete();
+        assertThat(scheduler.pending(), is(0));
+    }
+
+    @Test
+    public void testWatchReconciliationsJumpTheQueue() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null);
+        List<String> order = new ArrayList<>();
+        Promise<Void> blocker = Promise.promise();
+        scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, () -> blocker.future());
+        scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, () -> {
+            order.add("periodic-1");
+            return Future.succeededFuture();
+        });
+        scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, () -> {
+            order.add("periodic-2");
+            return Future.succeededFuture();
+        });
+        scheduler.schedule(ReconciliationScheduler.Priority.WATCH, () -> {
+            order.add("watch");
+            return Future.succeededFuture();
+        });
+
+        blocker.complete();
+        assertThat(order, is(asList("watch", "periodic-1", "periodic-2")));
+    }
+
+    @Test
+    public void testManySynchronouslyCompletingReconciliations() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null);
+        Promise<Void> blocker = Promise.promise();
+        scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, () -> blocker.future());
+        List<Future<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            results.add(scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, Future::succeededFuture));
+        }
+        blocker.complete();
+        assertThat(results.stream().allMatch(Future::succeeded), is(true));
+        assertThat(scheduler.pending(), is(0));
+    }
+
+    @Test
+    public void testThrowingActionFailsItsFuture() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null);
+        Future<Void> result = scheduler.schedule(ReconciliationScheduler.Priority.WATCH, () -> {
+            throw new RuntimeException("failure");
+        });
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("failure"));
+        assertThat(scheduler.pending(), is(0));
+    }
+
+    @Test
+    public void testMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, new MicrometerMetricsProvider(registry));
+        Promise<Void> blocker = Promise.promise();
+        scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, () -> blocker.future());
+        scheduler.schedule(ReconciliationScheduler.Priority.PERIODIC, Future::succeededFuture);
+        scheduler.schedule(ReconciliationScheduler.Priority.WATCH, Future::succeededFuture);
+
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.inflight").gauge().value(), is(1.0));
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.queued").tag("priority", "watch").gauge().value(), is(1.0));
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.queued").tag("priority", "periodic").gauge().value(), is(1.0));
+
+        blocker.complete();
+
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.inflight").gauge().value(), is(0.0));
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.queued").tag("priority", "watch").gauge().value(), is(0.0));
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.queued").tag("priority", "periodic").gauge().value(), is(0.0));
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.queue.duration").timer().count(), is(3L));
+    }
+}
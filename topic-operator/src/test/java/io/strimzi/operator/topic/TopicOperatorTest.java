@@ -35,11 +35,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -47,6 +51,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
@@ -1175,6 +1181,102 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_usesPrefetchedMetadata(VertxTestContext context) throws InterruptedException {
+        Topic topic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        KafkaTopic resource = TopicSerialization.toTopicResource(topic, labels);
+
+        CountDownLatch async0 = new CountDownLatch(2);
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(resource).onComplete(ar -> async0.countDown());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(topic).onComplete(ar -> async0.countDown());
+        async0.await();
+
+        AtomicInteger batchRequests = new AtomicInteger();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        mockKafka.setTopicsMetadataResponse(topicNames -> {
+            batchRequests.incrementAndGet();
+            return Future.succeededFuture(singletonMap(topicName, Utils.getTopicMetadata(topic)));
+        });
+        // The default per-topic metadata response fails, so the reconciliation only succeeds if the batch response is used
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(batchRequests.get(), is(1));
+            mockK8s.assertNoEvents(context);
+            mockTopicStore.assertContains(context, topic);
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_incrementalSkipsUnchangedTopics(VertxTestContext context) throws InterruptedException {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.INCREMENTAL_RECONCILIATION_ENABLED.key, "true");
+        configMap.put(Config.INCREMENTAL_RECONCILIATION_FULL_SWEEP_INTERVAL.key, "2");
+        config = new Config(configMap);
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", config, metrics);
+
+        Topic topic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        KafkaTopic resource = new KafkaTopicBuilder(TopicSerialization.toTopicResource(topic, labels))
+                .editMetadata()
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        CountDownLatch async0 = new CountDownLatch(2);
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(resource).onComplete(ar -> async0.countDown());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(topic).onComplete(ar -> async0.countDown());
+        async0.await();
+
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        mockKafka.setTopicsMetadataResponse(topicNames -> Future.succeededFuture(singletonMap(topicName, Utils.getTopicMetadata(topic))));
+
+        MeterRegistry registry = metrics.meterRegistry();
+        Checkpoint async = context.checkpoint();
+        // The first reconciliation is a full one, the second is incremental and the third is full again
+        topicOperator.reconcileAllTopics("periodic")
+            .compose(ignored -> {
+                context.verify(() -> assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.unchanged").counter().count(), is(0.0)));
+                return topicOperator.reconcileAllTopics("periodic");
+            })
+            .compose(ignored -> {
+                context.verify(() -> assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.unchanged").counter().count(), is(1.0)));
+                return topicOperator.reconcileAllTopics("periodic");
+            })
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.unchanged").counter().count(), is(1.0));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_batchesMetadataRequests(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.TOPIC_METADATA_BATCH_SIZE.key, "2");
+        config = new Config(configMap);
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", config, metrics);
+
+        Set<String> topicNames = new HashSet<>(asList("topic-a", "topic-b", "topic-c", "topic-d", "topic-e"));
+        List<Collection<TopicName>> batches = new ArrayList<>();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(topicNames));
+        mockKafka.setTopicsMetadataResponse(batch -> {
+            batches.add(new ArrayList<>(batch));
+            return Future.succeededFuture(emptyMap());
+        });
+        // None of the topics is in the topic store, so they're all undetermined and get no further Kafka requests
+        mockKafka.setTopicMetadataResponse(name -> Future.succeededFuture(null));
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(ar -> context.verify(() -> {
+            assertThat(batches.size(), is(3));
+            assertThat(batches.stream().mapToInt(Collection::size).sum(), is(topicNames.size()));
+            assertThat(batches.stream().allMatch(batch -> batch.size() <= 2), is(true));
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void testReconcileMetrics(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
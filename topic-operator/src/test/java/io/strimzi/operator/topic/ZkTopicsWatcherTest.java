@@ -11,7 +11,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -66,6 +70,44 @@ public class ZkTopicsWatcherTest {
                 is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("baz")))));
     }
 
+    @Test
+    public void testTopicConfigChangeNotification() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.childrenResults.put("/config/changes", Future.succeededFuture(singletonList("config_change_0000000001")));
+        mockZk.dataResult = Future.succeededFuture(new byte[0]);
+
+        TopicConfigsWatcher topicConfigsWatcher = new TopicConfigChangesWatcher(operator);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren(Future.succeededFuture(asList("foo", "bar", "baz")));
+        assertThat(topicConfigsWatcher.watching("baz"), is(true));
+
+        // No watch is set on the config of each topic
+        operator.clearEvents();
+        mockZk.triggerData("/config/topics/baz", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        // Only the new notifications about watched topics are routed to the operator
+        mockZk.dataResults.put("/config/changes/config_change_0000000002",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/baz\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000003",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"brokers/0\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000004",
+                Future.succeededFuture("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"unknown\"}".getBytes(StandardCharsets.UTF_8)));
+        List<String> notifications = asList("config_change_0000000001", "config_change_0000000002",
+                "config_change_0000000003", "config_change_0000000004");
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(notifications));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("baz")))));
+
+        // Notifications which were already processed are ignored, e.g. when the session is re-established
+        operator.clearEvents();
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(notifications));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+
     @Test
     public void testTopicDelete() {
         operator.topicDeletedResult = Future.succeededFuture();
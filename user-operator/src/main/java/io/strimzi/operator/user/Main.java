@@ -11,17 +11,21 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.AdminKafkaUserQuotasOperator;
+import io.strimzi.operator.user.operator.AdminScramShaCredentialsOperator;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.strimzi.operator.user.operator.KafkaUserQuotasOperator;
 import io.strimzi.operator.user.operator.ScramShaCredentials;
 import io.strimzi.operator.user.operator.ScramShaCredentialsOperator;
 import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.operator.user.operator.ZkKafkaUserQuotasOperator;
+import io.strimzi.operator.user.operator.ZkScramShaCredentialsOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -76,15 +80,22 @@ public class Main {
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
         Security.setProperty("networkaddress.cache.ttl", dnsCacheTtl);
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManagerType().create();
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, Crds.kafkaUser());
         return createAdminClient(adminClientProvider, config, secretOperations)
                 .compose(adminClient -> {
-                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
-                    ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
-                    ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, scramShaCredentials);
-                    KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient, config.isBulkAclReconciliationEnabled());
+                    ScramShaCredentialsOperator scramShaCredentialsOperator;
+                    KafkaUserQuotasOperator quotasOperator;
+                    if (config.isAdminApiScramAndQuotasEnabled()) {
+                        scramShaCredentialsOperator = new AdminScramShaCredentialsOperator(vertx, adminClient);
+                        quotasOperator = new AdminKafkaUserQuotasOperator(vertx, adminClient);
+                    } else {
+                        ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                        scramShaCredentialsOperator = new ZkScramShaCredentialsOperator(vertx, scramShaCredentials);
+                        quotasOperator = new ZkKafkaUserQuotasOperator(vertx, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                    }
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx,
                             certManager, crdOperations,
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -29,12 +30,18 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
+    public static final String STRIMZI_BULK_ACL_RECONCILIATION_ENABLED = "STRIMZI_BULK_ACL_RECONCILIATION_ENABLED";
+    public static final String STRIMZI_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED = "STRIMZI_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
     public static final String DEFAULT_SECRET_PREFIX = "";
+    public static final boolean DEFAULT_BULK_ACL_RECONCILIATION_ENABLED = false;
+    public static final boolean DEFAULT_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED = false;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +55,9 @@ public class UserOperatorConfig {
     private final String eoKeySecretName;
     private final String caNamespace;
     private final String secretPrefix;
+    private final boolean bulkAclReconciliationEnabled;
+    private final boolean adminApiScramAndQuotasEnabled;
+    private final CertManagerType certManagerType;
 
     /**
      * Constructor
@@ -64,6 +74,9 @@ public class UserOperatorConfig {
      * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
      * @param caNamespace Namespace with the CA secret.
      * @param secretPrefix Prefix used for the Secret names
+     * @param bulkAclReconciliationEnabled Whether the ACLs of all users are read and updated in bulk during the periodic reconciliation
+     * @param adminApiScramAndQuotasEnabled Whether the SCRAM-SHA credentials and quotas are managed using the Kafka Admin API instead of ZooKeeper
+     * @param certManagerType The implementation used to generate the user keys and certificates
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
     public UserOperatorConfig(String namespace,
@@ -76,7 +89,10 @@ public class UserOperatorConfig {
                               String clusterCaCertSecretName,
                               String eoKeySecretName,
                               String caNamespace,
-                              String secretPrefix) {
+                              String secretPrefix,
+                              boolean bulkAclReconciliationEnabled,
+                              boolean adminApiScramAndQuotasEnabled,
+                              CertManagerType certManagerType) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -89,6 +105,9 @@ public class UserOperatorConfig {
         this.eoKeySecretName = eoKeySecretName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.bulkAclReconciliationEnabled = bulkAclReconciliationEnabled;
+        this.adminApiScramAndQuotasEnabled = adminApiScramAndQuotasEnabled;
+        this.certManagerType = certManagerType;
     }
 
     /**
@@ -161,8 +180,32 @@ public class UserOperatorConfig {
             secretPrefix = DEFAULT_SECRET_PREFIX;
         }
 
+        boolean bulkAclReconciliationEnabled = DEFAULT_BULK_ACL_RECONCILIATION_ENABLED;
+        String bulkAclReconciliationEnabledEnvVar = map.get(UserOperatorConfig.STRIMZI_BULK_ACL_RECONCILIATION_ENABLED);
+        if (bulkAclReconciliationEnabledEnvVar != null && !bulkAclReconciliationEnabledEnvVar.isEmpty()) {
+            bulkAclReconciliationEnabled = Boolean.parseBoolean(bulkAclReconciliationEnabledEnvVar);
+        }
+
+        boolean adminApiScramAndQuotasEnabled = DEFAULT_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED;
+        String adminApiScramAndQuotasEnabledEnvVar = map.get(UserOperatorConfig.STRIMZI_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED);
+        if (adminApiScramAndQuotasEnabledEnvVar != null && !adminApiScramAndQuotasEnabledEnvVar.isEmpty()) {
+            adminApiScramAndQuotasEnabled = Boolean.parseBoolean(adminApiScramAndQuotasEnabledEnvVar);
+        }
+
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+        String certManagerEnvVar = map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER);
+        if (certManagerEnvVar != null && !certManagerEnvVar.isEmpty()) {
+            try {
+                certManagerType = CertManagerType.forName(certManagerEnvVar);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException(certManagerEnvVar + " is not a valid " + UserOperatorConfig.STRIMZI_CERT_MANAGER
+                        + " value. It can have one of the following values: openssl, java.");
+            }
+        }
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix);
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix, bulkAclReconciliationEnabled,
+                adminApiScramAndQuotasEnabled, certManagerType);
     }
 
     public static int getClientsCaValidityDays() {
@@ -266,6 +309,27 @@ public class UserOperatorConfig {
         return secretPrefix;
     }
 
+    /**
+     * @return  Whether the ACLs of all users are read and updated in bulk during the periodic reconciliation
+     */
+    public boolean isBulkAclReconciliationEnabled() {
+        return bulkAclReconciliationEnabled;
+    }
+
+    /**
+     * @return  Whether the SCRAM-SHA credentials and quotas are managed using the Kafka Admin API instead of ZooKeeper
+     */
+    public boolean isAdminApiScramAndQuotasEnabled() {
+        return adminApiScramAndQuotasEnabled;
+    }
+
+    /**
+     * @return  The implementation used to generate the user keys and certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -279,6 +343,9 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",bulkAclReconciliationEnabled=" + bulkAclReconciliationEnabled +
+                ",adminApiScramAndQuotasEnabled=" + adminApiScramAndQuotasEnabled +
+                ",certManagerType=" + certManagerType +
                 ")";
     }
 }
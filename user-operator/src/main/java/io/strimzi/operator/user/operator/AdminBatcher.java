@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Collects the changes (or queries) for different users for a short time and sends them to Kafka with a single Admin
+ * API request. When a user already has a change waiting to be sent, it is replaced by the newer one.
+ *
+ * @param <K> The type of the key identifying the user in the Admin API request and result.
+ * @param <T> The type of the change.
+ * @param <R> The type of the result returned by Kafka for each user.
+ */
+class AdminBatcher<K, T, R> {
+    private static final Logger log = LogManager.getLogger(AdminBatcher.class.getName());
+
+    private final Vertx vertx;
+    private final String name;
+    private final long lingerMs;
+    private final int maxBatchSize;
+    private final Function<Map<K, T>, Map<K, KafkaFuture<R>>> sender;
+
+    private Map<K, T> pending = new LinkedHashMap<>();
+    private Map<K, Promise<R>> promises = new LinkedHashMap<>();
+    private long lingerTimer = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param name Name of the changes (used for logging)
+     * @param lingerMs How long are the changes collected before they are sent
+     * @param maxBatchSize Maximal number of changes sent in a single request
+     * @param sender Sends the changes to Kafka and returns the futures with the result for each key. It is called
+     *               from a worker thread.
+     */
+    AdminBatcher(Vertx vertx, String name, long lingerMs, int maxBatchSize, Function<Map<K, T>, Map<K, KafkaFuture<R>>> sender) {
+        this.vertx = vertx;
+        this.name = name;
+        this.lingerMs = lingerMs;
+        this.maxBatchSize = maxBatchSize;
+        this.sender = sender;
+    }
+
+    /**
+     * Queues a change to be sent to Kafka
+     *
+     * @param key The key of the user
+     * @param change The change
+     *
+     * @return Future which completes with the result when Kafka has applied the change. It fails with the error
+     * returned by Kafka for the change.
+     */
+    synchronized Future<R> enqueue(K key, T change) {
+        pending.put(key, change);
+        Promise<R> promise = promises.computeIfAbsent(key, k -> Promise.promise());
+
+        if (pending.size() >= maxBatchSize) {
+            flush();
+        } else if (lingerTimer == -1) {
+            lingerTimer = vertx.setTimer(lingerMs, id -> {
+                synchronized (this) {
+                    lingerTimer = -1;
+                    flush();
+                }
+            });
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Sends the queued changes. Must be called while holding the lock on this object.
+     */
+    private void flush() {
+        if (lingerTimer != -1) {
+            vertx.cancelTimer(lingerTimer);
+            lingerTimer = -1;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<K, T> batch = pending;
+        Map<K, Promise<R>> batchPromises = promises;
+        pending = new LinkedHashMap<>();
+        promises = new LinkedHashMap<>();
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                log.debug("Sending {} {}", batch.size(), name);
+
+                Map<K, KafkaFuture<R>> results;
+                try {
+                    results = sender.apply(batch);
+                } catch (Exception e) {
+                    log.error("Sending {} {} failed", batch.size(), name, e);
+                    batchPromises.values().forEach(promise -> promise.fail(e));
+                    future.complete();
+                    return;
+                }
+
+                for (Map.Entry<K, Promise<R>> entry : batchPromises.entrySet()) {
+                    KafkaFuture<R> result = results.get(entry.getKey());
+
+                    try {
+                        if (result == null) {
+                            throw new IllegalStateException("No result for " + entry.getKey());
+                        }
+
+                        entry.getValue().complete(result.get());
+                    } catch (ExecutionException e) {
+                        entry.getValue().fail(e.getCause());
+                    } catch (Exception e) {
+                        entry.getValue().fail(e);
+                    }
+                }
+
+                future.complete();
+            },
+            false,
+            ignored -> { });
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Manages the user quotas using the Kafka Admin API instead of ZooKeeper. The current quotas of different users are
+ * described and the changes are sent to Kafka in batches. Only the users whose quotas differ from the desired ones
+ * are altered.
+ */
+public class AdminKafkaUserQuotasOperator implements KafkaUserQuotasOperator {
+    private static final Logger log = LogManager.getLogger(AdminKafkaUserQuotasOperator.class.getName());
+
+    private static final String PRODUCER_BYTE_RATE = "producer_byte_rate";
+    private static final String CONSUMER_BYTE_RATE = "consumer_byte_rate";
+    private static final String REQUEST_PERCENTAGE = "request_percentage";
+
+    private static final ClientQuotaFilter ALL_USERS = ClientQuotaFilter.contains(Collections.singletonList(ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER)));
+
+    /* test */ static final long LINGER_MS = 100;
+    /* test */ static final int MAX_BATCH_SIZE = 500;
+
+    private final AdminBatcher<ClientQuotaEntity, ClientQuotaEntity, Map<String, Double>> describeBatcher;
+    private final AdminBatcher<ClientQuotaEntity, ClientQuotaAlteration, Void> alterBatcher;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     */
+    public AdminKafkaUserQuotasOperator(Vertx vertx, Admin adminClient) {
+        this.describeBatcher = new AdminBatcher<>(vertx, "user quota descriptions", LINGER_MS, MAX_BATCH_SIZE,
+            entities -> describeClientQuotas(adminClient, entities.keySet()));
+        this.alterBatcher = new AdminBatcher<>(vertx, "user quota changes", LINGER_MS, MAX_BATCH_SIZE,
+            alterations -> adminClient.alterClientQuotas(new ArrayList<>(alterations.values())).values());
+    }
+
+    /**
+     * Describes the quotas of the given users with a single request. A single user is described with an exact filter,
+     * more users are described with a filter matching all users.
+     *
+     * @return The futures with the quotas of each user. The quotas are empty when the user has none.
+     */
+    private static Map<ClientQuotaEntity, KafkaFuture<Map<String, Double>>> describeClientQuotas(Admin adminClient, Set<ClientQuotaEntity> entities) {
+        ClientQuotaFilter filter = entities.size() == 1
+                ? ClientQuotaFilter.containsOnly(Collections.singletonList(ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, entities.iterator().next().entries().get(ClientQuotaEntity.USER))))
+                : ALL_USERS;
+        KafkaFuture<Map<ClientQuotaEntity, Map<String, Double>>> described = adminClient.describeClientQuotas(filter).entities();
+
+        Map<ClientQuotaEntity, KafkaFuture<Map<String, Double>>> results = new HashMap<>(entities.size());
+        for (ClientQuotaEntity entity : entities) {
+            results.put(entity, described.thenApply(quotas -> quotas.getOrDefault(entity, Collections.emptyMap())));
+        }
+        return results;
+    }
+
+    @Override
+    public Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
+        ClientQuotaEntity entity = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+
+        return describeBatcher.enqueue(entity, entity)
+                .compose(current -> {
+                    List<ClientQuotaAlteration.Op> ops = new ArrayList<>(3);
+                    addOpIfChanged(ops, current, PRODUCER_BYTE_RATE, quotas != null ? quotas.getProducerByteRate() : null);
+                    addOpIfChanged(ops, current, CONSUMER_BYTE_RATE, quotas != null ? quotas.getConsumerByteRate() : null);
+                    addOpIfChanged(ops, current, REQUEST_PERCENTAGE, quotas != null ? quotas.getRequestPercentage() : null);
+
+                    if (ops.isEmpty()) {
+                        log.debug("Nothing to update in quotas for user {}", username);
+                        return Future.succeededFuture(ReconcileResult.noop(quotas));
+                    }
+
+                    log.debug("Updating quotas for user {}", username);
+                    return alterBatcher.enqueue(entity, new ClientQuotaAlteration(entity, ops))
+                            .map(ignored -> {
+                                if (quotas == null) {
+                                    return ReconcileResult.deleted();
+                                } else if (current.isEmpty()) {
+                                    return ReconcileResult.created(quotas);
+                                } else {
+                                    return ReconcileResult.patched(quotas);
+                                }
+                            });
+                });
+    }
+
+    /**
+     * Adds the operation setting the quota, or removing it when the desired value is null, unless the current value
+     * is already the desired one.
+     */
+    private static void addOpIfChanged(List<ClientQuotaAlteration.Op> ops, Map<String, Double> current, String key, Integer desired) {
+        Double value = desired != null ? desired.doubleValue() : null;
+        if (!Objects.equals(current.get(key), value)) {
+            ops.add(new ClientQuotaAlteration.Op(key, value));
+        }
+    }
+}
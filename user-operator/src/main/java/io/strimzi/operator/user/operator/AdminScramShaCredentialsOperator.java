@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Manages the SCRAM-SHA credentials using the Kafka Admin API instead of ZooKeeper. The credentials of different users
+ * are described and changed in batches. The credentials are deleted only for the users who have them.
+ */
+public class AdminScramShaCredentialsOperator implements ScramShaCredentialsOperator {
+    private static final Logger log = LogManager.getLogger(AdminScramShaCredentialsOperator.class.getName());
+
+    private final static int ITERATIONS = 4096;
+    private final static ScramMechanism MECHANISM = ScramMechanism.SCRAM_SHA_512;
+
+    /* test */ static final long LINGER_MS = 100;
+    /* test */ static final int MAX_BATCH_SIZE = 500;
+
+    private final Admin adminClient;
+    private final AdminBatcher<String, String, UserScramCredentialsDescription> describeBatcher;
+    private final AdminBatcher<String, UserScramCredentialAlteration, Void> alterBatcher;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     */
+    public AdminScramShaCredentialsOperator(Vertx vertx, Admin adminClient) {
+        this.adminClient = adminClient;
+        this.describeBatcher = new AdminBatcher<>(vertx, "SCRAM-SHA credential descriptions", LINGER_MS, MAX_BATCH_SIZE,
+            users -> {
+                DescribeUserScramCredentialsResult result = adminClient.describeUserScramCredentials(new ArrayList<>(users.keySet()));
+                Map<String, KafkaFuture<UserScramCredentialsDescription>> descriptions = new HashMap<>(users.size());
+                users.keySet().forEach(user -> descriptions.put(user, result.description(user)));
+                return descriptions;
+            });
+        this.alterBatcher = new AdminBatcher<>(vertx, "SCRAM-SHA credential changes", LINGER_MS, MAX_BATCH_SIZE,
+            alterations -> adminClient.alterUserScramCredentials(new ArrayList<>(alterations.values())).values());
+    }
+
+    @Override
+    public Future<Void> reconcile(String username, String password) {
+        if (password != null) {
+            log.debug("Creating or updating {} credentials for user {}", MECHANISM, username);
+            return alterBatcher.enqueue(username, new UserScramCredentialUpsertion(username, new ScramCredentialInfo(MECHANISM, ITERATIONS), password));
+        } else {
+            return hasCredentials(username)
+                    .compose(exists -> {
+                        if (exists) {
+                            log.debug("Deleting {} credentials for user {}", MECHANISM, username);
+                            return alterBatcher.enqueue(username, new UserScramCredentialDeletion(username, MECHANISM))
+                                    .recover(error -> ignoreNotFound(username, error));
+                        } else {
+                            log.debug("Credentials for user {} already don't exist", username);
+                            return Future.succeededFuture();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Checks whether the user has credentials with the mechanism used by the operator. Kafka fails the description
+     * of users without any credentials with ResourceNotFoundException.
+     */
+    private Future<Boolean> hasCredentials(String username) {
+        return describeBatcher.enqueue(username, username)
+                .map(description -> description.credentialInfos().stream().anyMatch(info -> info.mechanism() == MECHANISM))
+                .recover(error -> error instanceof ResourceNotFoundException ? Future.succeededFuture(false) : Future.failedFuture(error));
+    }
+
+    /**
+     * The credentials might have been deleted since they were described. This is not an error.
+     */
+    private static Future<Void> ignoreNotFound(String username, Throwable error) {
+        if (error instanceof ResourceNotFoundException) {
+            log.debug("Credentials for user {} already don't exist", username);
+            return Future.succeededFuture();
+        } else {
+            return Future.failedFuture(error);
+        }
+    }
+
+    @Override
+    public List<String> list() {
+        try {
+            Map<String, UserScramCredentialsDescription> descriptions = adminClient.describeUserScramCredentials().all().get();
+
+            return descriptions.values().stream()
+                    .filter(description -> description.credentialInfos().stream().anyMatch(info -> info.mechanism() == MECHANISM))
+                    .map(UserScramCredentialsDescription::name)
+                    .collect(Collectors.toList());
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to list users with " + MECHANISM + " credentials", e);
+        }
+    }
+}
@@ -25,8 +25,10 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -104,6 +106,18 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                 });
     }
 
+    /**
+     * In bulk mode, {@link SimpleAclOperator#getUsersWithAcls()} keeps a snapshot of the ACLs of all users, which is
+     * used while the periodic reconciliation is in progress. It is discarded once the reconciliation is done.
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        super.reconcileAll(trigger, namespace, result -> {
+            aclOperations.discardSnapshot();
+            handler.handle(result);
+        });
+    }
+
     List<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
         return names.stream()
                 .map(name -> new NamespaceAndName(namespace, name))
@@ -5,45 +5,28 @@
 package io.strimzi.operator.user.operator;
 
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 
 import java.util.List;
 
-public class ScramShaCredentialsOperator {
-
-    private ScramShaCredentials credsManager;
-
-    private Vertx vertx;
-
-    public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
-        this.credsManager = credsManager;
-        this.vertx = vertx;
-    }
-
-    Future<Void> reconcile(String username, String password) {
-        Promise<Void> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                boolean exists = credsManager.exists(username);
-                if (password != null) {
-                    credsManager.createOrUpdate(username, password);
-                    future.complete(null);
-                } else  {
-                    if (exists) {
-                        credsManager.delete(username);
-                        future.complete(null);
-                    } else {
-                        future.complete(null);
-                    }
-                }
-            },
-            false,
-            promise);
-        return promise.future();
-    }
-
-    public List<String> list() {
-        return credsManager.list();
-    }
+/**
+ * Manages the SCRAM-SHA credentials of the users
+ */
+public interface ScramShaCredentialsOperator {
+    /**
+     * Creates or updates the credentials of the user, or deletes them when the password is null. Deleting the
+     * credentials of a user who has none is not an error.
+     *
+     * @param username Name of the user
+     * @param password The desired password, or null if the user should not have credentials
+     *
+     * @return Future which completes when the credentials are reconciled
+     */
+    Future<Void> reconcile(String username, String password);
+
+    /**
+     * Lists the users with SCRAM-SHA credentials. This method is blocking.
+     *
+     * @return List of the user names
+     */
+    List<String> list();
 }
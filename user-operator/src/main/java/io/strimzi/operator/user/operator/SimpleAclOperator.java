@@ -13,6 +13,8 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -29,9 +31,12 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -42,8 +47,28 @@ public class SimpleAclOperator {
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    /**
+     * How long the ACL changes are collected before they are sent to Kafka in bulk mode
+     */
+    /* test */ static final long BULK_LINGER_MS = 100;
+
+    /**
+     * Maximum number of ACL bindings sent to Kafka in a single request in bulk mode
+     */
+    /* test */ static final int BULK_MAX_BATCH_SIZE = 1_000;
+
     private final Vertx vertx;
     private final Admin adminClient;
+    private final boolean bulkReconciliation;
+
+    /**
+     * The ACLs of all users indexed by the username, as described by the last call to {@link #getUsersWithAcls()}
+     * in bulk mode. It is null when there is no periodic reconciliation in progress.
+     */
+    private volatile Map<String, Set<SimpleAclRule>> snapshot;
+    private final List<AclChange> pendingChanges = new ArrayList<>();
+    private int pendingBindings = 0;
+    private long lingerTimer = -1;
 
     /**
      * Constructor
@@ -52,8 +77,21 @@ public class SimpleAclOperator {
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
+        this(vertx, adminClient, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param bulkReconciliation When true, the periodic reconciliation reads the ACLs of all users with a single
+     *                           request and the ACL changes are sent to Kafka in batches
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, boolean bulkReconciliation)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.bulkReconciliation = bulkReconciliation;
     }
 
     /**
@@ -64,6 +102,11 @@ public class SimpleAclOperator {
      * @return the Future with reconcile result
      */
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
+        Map<String, Set<SimpleAclRule>> snapshot = this.snapshot;
+        if (snapshot != null) {
+            return reconcileFromSnapshot(snapshot, username, desired);
+        }
+
         Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
@@ -108,6 +151,131 @@ public class SimpleAclOperator {
         return promise.future();
     }
 
+    /**
+     * Reconciles the Acl rules for given user against the ACLs from the snapshot.
+     * The changes are not sent to Kafka right away, but together with the changes for other users.
+     */
+    private Future<ReconcileResult<Set<SimpleAclRule>>> reconcileFromSnapshot(Map<String, Set<SimpleAclRule>> snapshot, String username, Set<SimpleAclRule> desired) {
+        Set<SimpleAclRule> current = snapshot.getOrDefault(username, Collections.emptySet());
+        Set<SimpleAclRule> desiredOrEmpty = desired != null ? desired : Collections.emptySet();
+
+        Set<SimpleAclRule> toBeDeleted = new HashSet<>(current);
+        toBeDeleted.removeAll(desiredOrEmpty);
+
+        Set<SimpleAclRule> toBeAdded = new HashSet<>(desiredOrEmpty);
+        toBeAdded.removeAll(current);
+
+        if (toBeDeleted.isEmpty() && toBeAdded.isEmpty()) {
+            log.debug("User {}: {} expected Acl rules match the existing Acl rules -> NoOp", username, desiredOrEmpty.size());
+            return Future.succeededFuture(ReconcileResult.noop(desired));
+        }
+
+        ReconcileResult<Set<SimpleAclRule>> result;
+        if (desiredOrEmpty.isEmpty()) {
+            result = ReconcileResult.deleted();
+        } else if (current.isEmpty()) {
+            result = ReconcileResult.created(desired);
+        } else {
+            result = ReconcileResult.patched(desired);
+        }
+        log.debug("User {}: {} Acl rules to be added and {} Acl rules to be deleted -> Queueing changes", username, toBeAdded.size(), toBeDeleted.size());
+
+        AclChange change = new AclChange(username, toBeAdded, toBeDeleted);
+        enqueue(change);
+
+        return change.promise.future().map(ignored -> {
+            if (desiredOrEmpty.isEmpty()) {
+                snapshot.remove(username);
+            } else {
+                snapshot.put(username, new HashSet<>(desiredOrEmpty));
+            }
+            return result;
+        });
+    }
+
+    private synchronized void enqueue(AclChange change) {
+        pendingChanges.add(change);
+        pendingBindings += change.toBeAdded.size() + change.toBeDeleted.size();
+
+        if (pendingBindings >= BULK_MAX_BATCH_SIZE) {
+            flush();
+        } else if (lingerTimer == -1) {
+            lingerTimer = vertx.setTimer(BULK_LINGER_MS, id -> {
+                synchronized (this) {
+                    lingerTimer = -1;
+                    flush();
+                }
+            });
+        }
+    }
+
+    /**
+     * Sends the queued ACL changes to Kafka with a single deleteAcls and a single createAcls request.
+     * Must be called while holding the lock on this object.
+     */
+    private void flush() {
+        if (lingerTimer != -1) {
+            vertx.cancelTimer(lingerTimer);
+            lingerTimer = -1;
+        }
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        List<AclChange> batch = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        pendingBindings = 0;
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                Collection<AclBindingFilter> filters = new ArrayList<>();
+                Collection<AclBinding> bindings = new ArrayList<>();
+                for (AclChange change : batch) {
+                    filters.addAll(change.filters);
+                    bindings.addAll(change.bindings);
+                }
+                log.debug("Deleting {} and adding {} Acl rules for {} users", filters.size(), bindings.size(), batch.size());
+
+                Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> deleted;
+                Map<AclBinding, KafkaFuture<Void>> created;
+                try {
+                    deleted = filters.isEmpty() ? Collections.emptyMap() : adminClient.deleteAcls(filters).values();
+                    created = bindings.isEmpty() ? Collections.emptyMap() : adminClient.createAcls(bindings).values();
+                } catch (Exception e) {
+                    log.error("Updating Acl rules for {} users failed", batch.size(), e);
+                    batch.forEach(change -> change.promise.fail(e));
+                    future.complete();
+                    return;
+                }
+
+                for (AclChange change : batch) {
+                    try {
+                        for (AclBindingFilter filter : change.filters) {
+                            deleted.get(filter).get();
+                        }
+                        for (AclBinding binding : change.bindings) {
+                            created.get(binding).get();
+                        }
+                        change.promise.complete();
+                    } catch (Exception e) {
+                        log.error("Updating Acl rules for user {} failed", change.username, e);
+                        change.promise.fail(e);
+                    }
+                }
+                future.complete();
+            },
+            false,
+            ignored -> { });
+    }
+
+    /**
+     * Discards the snapshot of the ACLs taken by {@link #getUsersWithAcls()}, so that the following reconciliations
+     * read the ACLs of each user from Kafka again. Does nothing when not in bulk mode.
+     */
+    public void discardSnapshot() {
+        snapshot = null;
+    }
+
     /**
      * Create all ACLs for given user
      */
@@ -225,12 +393,15 @@ public class SimpleAclOperator {
 
     /**
      * Returns set with all usernames which have some ACLs.
+     * In bulk mode, the ACLs are also kept as a snapshot used by the following reconciliations
+     * until {@link #discardSnapshot()} is called.
      *
      * @return The set with all usernames which have some ACLs.
      */
     public Set<String> getUsersWithAcls()   {
         Set<String> result = new HashSet<>();
         Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
+        Map<String, Set<SimpleAclRule>> aclsByUser = new ConcurrentHashMap<>();
 
         log.debug("Searching for Users with any ACL rules");
 
@@ -245,6 +416,10 @@ public class SimpleAclOperator {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
             if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
+                if (bulkReconciliation) {
+                    aclsByUser.computeIfAbsent(principal.getName(), name -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                }
+
                 // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                 String username = KafkaUserModel.decodeUsername(principal.getName());
 
@@ -264,6 +439,37 @@ public class SimpleAclOperator {
             }
         }
 
+        if (bulkReconciliation) {
+            log.debug("Found ACL rules for {} users", aclsByUser.size());
+            snapshot = aclsByUser;
+        }
+
         return result;
     }
+
+    /**
+     * The ACL changes for a single user, waiting to be sent to Kafka
+     */
+    private static class AclChange {
+        private final String username;
+        private final Collection<AclBinding> bindings = new ArrayList<>();
+        private final Collection<AclBindingFilter> filters = new ArrayList<>();
+        private final Set<SimpleAclRule> toBeAdded;
+        private final Set<SimpleAclRule> toBeDeleted;
+        private final Promise<Void> promise = Promise.promise();
+
+        AclChange(String username, Set<SimpleAclRule> toBeAdded, Set<SimpleAclRule> toBeDeleted) {
+            this.username = username;
+            this.toBeAdded = toBeAdded;
+            this.toBeDeleted = toBeDeleted;
+
+            KafkaPrincipal principal = new KafkaPrincipal("User", username);
+            for (SimpleAclRule rule : toBeAdded) {
+                bindings.add(rule.toKafkaAclBinding(principal));
+            }
+            for (SimpleAclRule rule : toBeDeleted) {
+                filters.add(rule.toKafkaAclBinding(principal).toFilter());
+            }
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.List;
+
+/**
+ * Manages the SCRAM-SHA credentials directly in ZooKeeper.
+ */
+public class ZkScramShaCredentialsOperator implements ScramShaCredentialsOperator {
+
+    private ScramShaCredentials credsManager;
+
+    private Vertx vertx;
+
+    public ZkScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
+        this.credsManager = credsManager;
+        this.vertx = vertx;
+    }
+
+    @Override
+    public Future<Void> reconcile(String username, String password) {
+        Promise<Void> promise = Promise.promise();
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                boolean exists = credsManager.exists(username);
+                if (password != null) {
+                    credsManager.createOrUpdate(username, password);
+                    future.complete(null);
+                } else  {
+                    if (exists) {
+                        credsManager.delete(username);
+                        future.complete(null);
+                    } else {
+                        future.complete(null);
+                    }
+                }
+            },
+            false,
+            promise);
+        return promise.future();
+    }
+
+    @Override
+    public List<String> list() {
+        return credsManager.list();
+    }
+}
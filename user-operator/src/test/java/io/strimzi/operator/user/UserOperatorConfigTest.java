@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -92,6 +93,36 @@ public class UserOperatorConfigTest {
         assertThat(config.getCaNamespace(), is(envVars.get(UserOperatorConfig.STRIMZI_NAMESPACE)));
     }
 
+    @Test
+    public void testFromMapBulkAclReconciliation()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).isBulkAclReconciliationEnabled(), is(UserOperatorConfig.DEFAULT_BULK_ACL_RECONCILIATION_ENABLED));
+
+        envVars.put(UserOperatorConfig.STRIMZI_BULK_ACL_RECONCILIATION_ENABLED, "true");
+        assertThat(UserOperatorConfig.fromMap(envVars).isBulkAclReconciliationEnabled(), is(true));
+    }
+
+    @Test
+    public void testFromMapAdminApiScramAndQuotas()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).isAdminApiScramAndQuotasEnabled(), is(UserOperatorConfig.DEFAULT_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ADMIN_API_SCRAM_AND_QUOTAS_ENABLED, "true");
+        assertThat(UserOperatorConfig.fromMap(envVars).isAdminApiScramAndQuotasEnabled(), is(true));
+    }
+
+    @Test
+    public void testFromMapCertManager()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(UserOperatorConfig.DEFAULT_CERT_MANAGER));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "Java");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "libressl");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
     @Test
     public void testFromMapInvalidReconciliationIntervalThrows()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
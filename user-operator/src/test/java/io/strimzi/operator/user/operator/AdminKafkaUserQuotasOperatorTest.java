@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AdminKafkaUserQuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testReconcileBatchesUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        AdminKafkaUserQuotasOperator quotasOp = new AdminKafkaUserQuotasOperator(vertx, mockAdminClient);
+
+        Map<ClientQuotaEntity, Map<String, Double>> currentQuotas = new HashMap<>();
+        currentQuotas.put(entity("bar"), singletonMap("consumer_byte_rate", 100.0));
+        currentQuotas.put(entity("qux"), singletonMap("producer_byte_rate", 1000.0));
+
+        ArgumentCaptor<ClientQuotaFilter> filterCaptor = ArgumentCaptor.forClass(ClientQuotaFilter.class);
+        DescribeClientQuotasResult describeResult = mock(DescribeClientQuotasResult.class);
+        when(describeResult.entities()).thenReturn(KafkaFuture.completedFuture(currentQuotas));
+        when(mockAdminClient.describeClientQuotas(filterCaptor.capture())).thenReturn(describeResult);
+
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        when(mockAdminClient.alterClientQuotas(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = new HashMap<>();
+            alterations.forEach(alteration -> values.put(alteration.entity(), KafkaFuture.completedFuture(null)));
+
+            AlterClientQuotasResult result = mock(AlterClientQuotasResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(1000);
+        quotas.setRequestPercentage(50);
+
+        KafkaUserQuotas unchangedQuotas = new KafkaUserQuotas();
+        unchangedQuotas.setProducerByteRate(1000);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                quotasOp.reconcile("foo", quotas),
+                quotasOp.reconcile("bar", null),
+                quotasOp.reconcile("baz", null),
+                quotasOp.reconcile("qux", unchangedQuotas))
+            .onComplete(context.succeeding(cf -> context.verify(() -> {
+                assertThat(cf.<ReconcileResult<KafkaUserQuotas>>resultAt(0) instanceof ReconcileResult.Created, is(true));
+                assertThat(cf.resultAt(1), is(ReconcileResult.deleted()));
+                assertThat(cf.<ReconcileResult<KafkaUserQuotas>>resultAt(2) instanceof ReconcileResult.Noop, is(true));
+                assertThat(cf.<ReconcileResult<KafkaUserQuotas>>resultAt(3) instanceof ReconcileResult.Noop, is(true));
+
+                // The quotas of all users are described with a single request
+                verify(mockAdminClient, times(1)).describeClientQuotas(any());
+                assertThat(filterCaptor.getValue().strict(), is(false));
+
+                // Only the users whose quotas differ are altered
+                verify(mockAdminClient, times(1)).alterClientQuotas(any());
+
+                List<ClientQuotaAlteration> alterations = new ArrayList<>(alterationsCaptor.getValue());
+                assertThat(alterations.size(), is(2));
+
+                ClientQuotaAlteration foo = alterations.get(0);
+                assertThat(foo.entity(), is(entity("foo")));
+                Map<String, Double> fooOps = new HashMap<>();
+                foo.ops().forEach(op -> fooOps.put(op.key(), op.value()));
+                assertThat(fooOps.size(), is(2));
+                assertThat(fooOps.get("producer_byte_rate"), is(1000.0));
+                assertThat(fooOps.get("request_percentage"), is(50.0));
+
+                ClientQuotaAlteration bar = alterations.get(1);
+                assertThat(bar.entity(), is(entity("bar")));
+                assertThat(bar.ops().size(), is(1));
+                assertThat(bar.ops().iterator().next().key(), is("consumer_byte_rate"));
+                assertThat(bar.ops().iterator().next().value(), is(nullValue()));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileUnchangedUserDoesNotAlterQuotas(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        AdminKafkaUserQuotasOperator quotasOp = new AdminKafkaUserQuotasOperator(vertx, mockAdminClient);
+
+        DescribeClientQuotasResult describeResult = mock(DescribeClientQuotasResult.class);
+        when(describeResult.entities()).thenReturn(KafkaFuture.completedFuture(singletonMap(entity("foo"), singletonMap("producer_byte_rate", 1000.0))));
+        when(mockAdminClient.describeClientQuotas(any())).thenReturn(describeResult);
+
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(1000);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.reconcile("foo", quotas)
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(result instanceof ReconcileResult.Noop, is(true));
+                verify(mockAdminClient, never()).alterClientQuotas(any());
+                async.flag();
+            })));
+    }
+
+    private static ClientQuotaEntity entity(String username) {
+        return new ClientQuotaEntity(singletonMap(ClientQuotaEntity.USER, username));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AdminScramShaCredentialsOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testReconcileBatchesUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        AdminScramShaCredentialsOperator scramOp = new AdminScramShaCredentialsOperator(vertx, mockAdminClient);
+
+        KafkaFutureImpl<UserScramCredentialsDescription> noCredentials = new KafkaFutureImpl<>();
+        noCredentials.completeExceptionally(new ResourceNotFoundException("Attempt to describe a user credential that does not exist"));
+
+        ArgumentCaptor<List<String>> describedUsersCaptor = ArgumentCaptor.forClass(List.class);
+        DescribeUserScramCredentialsResult describeResult = mock(DescribeUserScramCredentialsResult.class);
+        when(describeResult.description("bar")).thenReturn(KafkaFuture.completedFuture(
+                new UserScramCredentialsDescription("bar", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096)))));
+        when(describeResult.description("qux")).thenReturn(noCredentials);
+        when(mockAdminClient.describeUserScramCredentials(describedUsersCaptor.capture())).thenReturn(describeResult);
+
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        when(mockAdminClient.alterUserScramCredentials(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            KafkaFutureImpl<Void> notFound = new KafkaFutureImpl<>();
+            notFound.completeExceptionally(new ResourceNotFoundException("Attempt to delete a user credential that does not exist"));
+            KafkaFutureImpl<Void> failed = new KafkaFutureImpl<>();
+            failed.completeExceptionally(new RuntimeException("failure"));
+
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            values.put("foo", KafkaFuture.completedFuture(null));
+            values.put("bar", notFound);
+            values.put("baz", failed);
+
+            AlterUserScramCredentialsResult result = mock(AlterUserScramCredentialsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        Checkpoint async = context.checkpoint();
+        Future<Void> foo = scramOp.reconcile("foo", "password");
+        Future<Void> bar = scramOp.reconcile("bar", null);
+        Future<Void> baz = scramOp.reconcile("baz", "password");
+        Future<Void> qux = scramOp.reconcile("qux", null);
+        CompositeFuture.join(foo, bar, baz, qux)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                // The users whose credentials should be deleted are described with a single request
+                verify(mockAdminClient, times(1)).describeUserScramCredentials(any());
+                assertThat(describedUsersCaptor.getValue(), is(asList("bar", "qux")));
+
+                // The changes are batched, the credentials are deleted (once described) only for the users who have them
+                verify(mockAdminClient, times(2)).alterUserScramCredentials(any());
+
+                List<UserScramCredentialAlteration> upserts = alterationsCaptor.getAllValues().get(0);
+                assertThat(upserts.size(), is(2));
+                assertThat(upserts.get(0), instanceOf(UserScramCredentialUpsertion.class));
+                assertThat(upserts.get(0).user(), is("foo"));
+                assertThat(upserts.get(1), instanceOf(UserScramCredentialUpsertion.class));
+                assertThat(upserts.get(1).user(), is("baz"));
+
+                List<UserScramCredentialAlteration> deletions = alterationsCaptor.getAllValues().get(1);
+                assertThat(deletions.size(), is(1));
+                assertThat(deletions.get(0), instanceOf(UserScramCredentialDeletion.class));
+                assertThat(deletions.get(0).user(), is("bar"));
+
+                // Deleting credentials which don't exist is not an error, but other failures are
+                assertThat(foo.succeeded(), is(true));
+                assertThat(bar.succeeded(), is(true));
+                assertThat(baz.failed(), is(true));
+                assertThat(baz.cause().getMessage(), is("failure"));
+                assertThat(qux.succeeded(), is(true));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testList() {
+        Admin mockAdminClient = mock(AdminClient.class);
+        AdminScramShaCredentialsOperator scramOp = new AdminScramShaCredentialsOperator(vertx, mockAdminClient);
+
+        Map<String, UserScramCredentialsDescription> descriptions = new HashMap<>();
+        descriptions.put("foo", new UserScramCredentialsDescription("foo", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))));
+        descriptions.put("bar", new UserScramCredentialsDescription("bar", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_256, 4096))));
+        descriptions.put("baz", new UserScramCredentialsDescription("baz", asList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_256, 4096),
+                new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))));
+
+        DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(descriptions));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(result);
+
+        List<String> users = scramOp.list();
+        assertThat(users.size(), is(2));
+        assertThat(users.containsAll(asList("foo", "baz")), is(true));
+    }
+}
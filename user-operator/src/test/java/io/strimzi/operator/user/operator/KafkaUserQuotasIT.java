@@ -31,7 +31,7 @@ public class KafkaUserQuotasIT {
 
     private static EmbeddedZooKeeper zkServer;
 
-    private static KafkaUserQuotasOperator kuq;
+    private static ZkKafkaUserQuotasOperator kuq;
 
     private KafkaUserQuotas defaultQuotas;
 
@@ -43,7 +43,7 @@ public class KafkaUserQuotasIT {
         vertx = Vertx.vertx();
         // Start ZookKeeper Server
         zkServer = new EmbeddedZooKeeper();
-        kuq = new KafkaUserQuotasOperator(vertx, zkServer.getZkConnectString(), 6_000);
+        kuq = new ZkKafkaUserQuotasOperator(vertx, zkServer.getZkConnectString(), 6_000);
     }
 
     @AfterAll
@@ -450,7 +450,7 @@ public class KafkaUserQuotasIT {
 
     @Test
     public void testEncodeUser()    {
-        assertThat(KafkaUserQuotasOperator.encodeUsername("jack"), is("jack"));
-        assertThat(KafkaUserQuotasOperator.encodeUsername("CN=grealish"), is("CN%3Dgrealish"));
+        assertThat(ZkKafkaUserQuotasOperator.encodeUsername("jack"), is("jack"));
+        assertThat(ZkKafkaUserQuotasOperator.encodeUsername("CN=grealish"), is("CN%3Dgrealish"));
     }
 }
@@ -10,6 +10,8 @@ import io.strimzi.api.kafka.model.AclRuleType;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -41,6 +43,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -53,6 +56,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -228,6 +233,87 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testBulkReconciliationUsesSnapshotAndBatchesChanges(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient, true);
+
+        ResourcePattern resource1 = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        ResourcePattern resource2 = new ResourcePattern(ResourceType.TOPIC, "my-topic2", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooReadAclBinding = new AclBinding(resource1, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding fooWriteAclBinding = new AclBinding(resource2, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "bar");
+        AclBinding barReadAclBinding = new AclBinding(resource1, new AccessControlEntry(bar.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        KafkaPrincipal baz = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "baz");
+        AclBinding bazReadAclBinding = new AclBinding(resource1, new AccessControlEntry(baz.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        KafkaPrincipal qux = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "qux");
+        AclBinding quxReadAclBinding = new AclBinding(resource1, new AccessControlEntry(qux.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL), "*", AclOperation.READ);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, new SimpleAclRuleResource("my-topic2", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL), "*", AclOperation.WRITE);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, asList(fooReadAclBinding, bazReadAclBinding, quxReadAclBinding)));
+        mockBatchedCreateAcls(mockAdminClient, aclBindingsCaptor);
+        mockBatchedDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
+
+        assertThat(aclOp.getUsersWithAcls(), is(new HashSet<>(asList("foo", "baz", "qux"))));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                aclOp.reconcile("CN=foo", Collections.singleton(writeRule)),
+                aclOp.reconcile("bar", Collections.singleton(readRule)),
+                aclOp.reconcile("baz", null),
+                aclOp.reconcile("qux", Collections.singleton(readRule)))
+            .onComplete(context.succeeding(cf -> context.verify(() -> {
+                assertThat(cf.<ReconcileResult<Set<SimpleAclRule>>>resultAt(0) instanceof ReconcileResult.Patched, is(true));
+                assertThat(cf.<ReconcileResult<Set<SimpleAclRule>>>resultAt(1) instanceof ReconcileResult.Created, is(true));
+                assertThat(cf.resultAt(2), is(ReconcileResult.deleted()));
+                assertThat(cf.<ReconcileResult<Set<SimpleAclRule>>>resultAt(3) instanceof ReconcileResult.Noop, is(true));
+
+                // The ACLs were described only once and all the changes were sent in a single request
+                verify(mockAdminClient, times(1)).describeAcls(any());
+                verify(mockAdminClient, times(1)).createAcls(any());
+                verify(mockAdminClient, times(1)).deleteAcls(any());
+
+                assertThat(aclBindingsCaptor.getValue(), hasSize(2));
+                assertThat(aclBindingsCaptor.getValue(), hasItems(fooWriteAclBinding, barReadAclBinding));
+                assertThat(aclBindingFiltersCaptor.getValue(), hasSize(2));
+                assertThat(aclBindingFiltersCaptor.getValue(), hasItems(fooReadAclBinding.toFilter(), bazReadAclBinding.toFilter()));
+
+                // Once the snapshot is discarded, the ACLs are described per user again
+                aclOp.discardSnapshot();
+                mockDescribeAcls(mockAdminClient, null, emptyList());
+                aclOp.reconcile("CN=foo", null).onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+                    async.flag();
+                })));
+            })));
+    }
+
+    private void mockBatchedCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor) {
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(aclBindings.stream()
+                    .collect(Collectors.toMap(Function.identity(), binding -> KafkaFuture.<Void>completedFuture(null))));
+            return result;
+        });
+    }
+
+    private void mockBatchedDeleteAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(filters.stream()
+                    .collect(Collectors.toMap(Function.identity(), filter -> KafkaFuture.<DeleteAclsResult.FilterResults>completedFuture(null))));
+            return result;
+        });
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);